@@ -0,0 +1,61 @@
+package com.rossotti.basketball;
+
+import com.rossotti.basketball.business.service.BulkImportService;
+import com.rossotti.basketball.util.function.DateTimeConverter;
+import com.rossotti.basketball.util.service.CacheStatisticsService;
+import com.rossotti.basketball.util.service.MetricService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BulkImport {
+
+	//-Dseason=2016 or -DfromDate=2016-10-25 -DtoDate=2017-04-12, optional -Ddirectory=archived box score directory
+	public static void main(String[] args) {
+		LocalDate fromDate = null;
+		LocalDate toDate = null;
+		if (System.getProperty("season") != null) {
+			String season = System.getProperty("season");
+			if (season.matches("\\d{4}")) {
+				LocalDate seasonDate = LocalDate.of(Integer.parseInt(season), 12, 31);
+				fromDate = DateTimeConverter.getLocalDateSeasonMin(seasonDate);
+				toDate = DateTimeConverter.getLocalDateSeasonMax(seasonDate);
+			}
+		}
+		else {
+			String from = System.getProperty("fromDate");
+			String to = System.getProperty("toDate");
+			if (from != null && to != null && DateTimeConverter.isDate(from) && DateTimeConverter.isDate(to)) {
+				fromDate = DateTimeConverter.getLocalDate(from);
+				toDate = DateTimeConverter.getLocalDate(to);
+			}
+		}
+		if (fromDate == null || fromDate.isAfter(toDate)) {
+			System.out.println("Need to supply season or fromDate/toDate arguments");
+			System.exit(1);
+		}
+
+		List<String> importArgs = new ArrayList<>(Arrays.asList(args));
+		String directory = System.getProperty("directory");
+		if (directory != null) {
+			if (!new File(directory).isDirectory()) {
+				System.out.println("Invalid directory argument");
+				System.exit(1);
+			}
+			importArgs.add("--xmlstats.fileBoxScore=" + directory);
+		}
+
+		System.out.println("\n" + "begin bulkImport for fromDate = " + DateTimeConverter.getStringDate(fromDate) + " and toDate = " + DateTimeConverter.getStringDate(toDate));
+		ConfigurableApplicationContext ctx = SpringApplication.run(ScoreGame.class, importArgs.toArray(new String[importArgs.size()]));
+		int completed = ctx.getBean(BulkImportService.class).importGames(fromDate, toDate);
+		System.out.println("end bulkImport, completed " + completed + " games" + "\n");
+		ctx.getBean(CacheStatisticsService.class).publish();
+		ctx.getBean(MetricService.class).logMetrics();
+		ctx.close();
+	}
+}
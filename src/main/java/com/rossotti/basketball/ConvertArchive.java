@@ -0,0 +1,32 @@
+package com.rossotti.basketball;
+
+import com.rossotti.basketball.util.service.ArchiveService;
+
+import java.io.File;
+
+public class ConvertArchive {
+
+	//-Ddirectory=fileBoxScore[,fileRoster,fileStandings] copies each per-event json directory into an archive
+	public static void main(String[] args) {
+		String directories = System.getProperty("directory");
+		if (directories == null || directories.isEmpty()) {
+			System.out.println("Need to supply directory argument");
+			System.exit(1);
+		}
+		ArchiveService archiveService = new ArchiveService();
+		try {
+			for (String directory : directories.split(",")) {
+				if (!new File(directory).isDirectory()) {
+					System.out.println("Invalid directory argument " + directory);
+					System.exit(1);
+				}
+				System.out.println("begin convertArchive for directory = " + directory);
+				int count = archiveService.convert(directory);
+				System.out.println("end convertArchive, archived " + count + " new files");
+			}
+		}
+		finally {
+			archiveService.close();
+		}
+	}
+}
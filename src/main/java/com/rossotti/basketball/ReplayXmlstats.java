@@ -0,0 +1,34 @@
+package com.rossotti.basketball;
+
+import com.rossotti.basketball.client.replay.ReplayServer;
+
+import java.io.File;
+import java.io.IOException;
+
+public class ReplayXmlstats {
+
+	//-Ddirectory=payloads [-Dport=8089 -Dsynthetic -Dlatency=ms -Djitter=ms -DthrottleRate=0.05 -DerrorRate=0.01 -DbytesPerSecond=n -Dseed=n]
+	//point xmlstats.urlBoxScore, xmlstats.urlRoster and xmlstats.urlStandings at http://127.0.0.1:port/nba/{boxscore,roster,standings}/
+	//and run the accumulator with -Daccumulator.replay=true or the replay profile
+	public static void main(String[] args) throws IOException {
+		String directory = System.getProperty("directory");
+		if (directory == null || !new File(directory).isDirectory()) {
+			System.out.println("Need to supply valid directory argument");
+			System.exit(1);
+		}
+		ReplayServer replayServer = new ReplayServer(directory);
+		replayServer.setPort(Integer.getInteger("port", 8089));
+		replayServer.setSynthetic(System.getProperty("synthetic") != null);
+		replayServer.setLatencyMillis(Integer.getInteger("latency", 0));
+		replayServer.setLatencyJitterMillis(Integer.getInteger("jitter", 0));
+		replayServer.setThrottleRate(Double.parseDouble(System.getProperty("throttleRate", "0")));
+		replayServer.setErrorRate(Double.parseDouble(System.getProperty("errorRate", "0")));
+		replayServer.setBytesPerSecond(Integer.getInteger("bytesPerSecond", 0));
+		if (System.getProperty("seed") != null) {
+			replayServer.setSeed(Long.getLong("seed"));
+		}
+		replayServer.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(replayServer::stop));
+		System.out.println("replay server started at " + replayServer.getBaseUrl());
+	}
+}
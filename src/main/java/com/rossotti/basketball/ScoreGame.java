@@ -1,9 +1,12 @@
 package com.rossotti.basketball;
 
+import com.rossotti.basketball.integration.GameRangeService;
 import com.rossotti.basketball.integration.GatewayService;
 import com.rossotti.basketball.integration.ServiceProperties;
 import com.rossotti.basketball.jpa.model.Game;
 import com.rossotti.basketball.util.function.DateTimeConverter;
+import com.rossotti.basketball.util.service.CacheStatisticsService;
+import com.rossotti.basketball.util.service.MetricService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
@@ -12,6 +15,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.integration.annotation.IntegrationComponentScan;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 
 @SpringBootApplication
@@ -20,9 +24,42 @@ public class ScoreGame {
 	private final Logger logger = LoggerFactory.getLogger(ScoreGame.class);
 
 	public static void main(String[] args) {
+		if (System.getProperty("daemon") != null) {
+			String[] daemonArgs = Arrays.copyOf(args, args.length + 1);
+			daemonArgs[args.length] = "--accumulator.daemon.enabled=true";
+			System.out.println("\n" + "begin scoring daemon");
+			SpringApplication.run(ScoreGame.class, daemonArgs);
+			return;
+		}
+
 		ServiceProperties serviceProperties = new ServiceProperties();
 
-		if (System.getProperty("gameDate") != null) {
+		if (System.getProperty("season") != null) {
+			String season = System.getProperty("season");
+			if (season.matches("\\d{4}")) {
+				LocalDate seasonDate = LocalDate.of(Integer.parseInt(season), 12, 31);
+				serviceProperties.setFromDate(DateTimeConverter.getStringDate(DateTimeConverter.getLocalDateSeasonMin(seasonDate)));
+				serviceProperties.setToDate(DateTimeConverter.getStringDate(DateTimeConverter.getLocalDateSeasonMax(seasonDate)));
+			}
+			else {
+				System.out.println("Invalid season argument");
+				System.exit(1);
+			}
+		}
+		else if (System.getProperty("fromDate") != null || System.getProperty("toDate") != null) {
+			String fromDate = System.getProperty("fromDate");
+			String toDate = System.getProperty("toDate");
+			if (fromDate != null && toDate != null && DateTimeConverter.isDate(fromDate) && DateTimeConverter.isDate(toDate) &&
+					!DateTimeConverter.getLocalDate(fromDate).isAfter(DateTimeConverter.getLocalDate(toDate))) {
+				serviceProperties.setFromDate(fromDate);
+				serviceProperties.setToDate(toDate);
+			}
+			else {
+				System.out.println("Invalid fromDate/toDate arguments");
+				System.exit(1);
+			}
+		}
+		else if (System.getProperty("gameDate") != null) {
 			String gameDate = System.getProperty("gameDate");
 			if (gameDate.isEmpty()) {
 				serviceProperties.setGameDate(DateTimeConverter.getStringDate(LocalDate.now().minusDays(1)));
@@ -56,16 +93,30 @@ public class ScoreGame {
 			System.exit(1);
 		}
 
+		if (System.getProperty("resume") != null) {
+			serviceProperties.setResume(true);
+		}
+
+		String gameDates = serviceProperties.isDateRange() ?
+			"fromDate = " + serviceProperties.getFromDate() + " and toDate = " + serviceProperties.getToDate() :
+			"gameDate = " + serviceProperties.getGameDate();
 		if (serviceProperties.getGameTeam().isEmpty()) {
-			System.out.println("\n" + "begin gatewayService for gameDate = " + serviceProperties.getGameDate());
+			System.out.println("\n" + "begin gatewayService for " + gameDates);
 		}
 		else {
-			System.out.println("\n" + "begin gatewayService for gameDate = " + serviceProperties.getGameDate() + " and gameTeam = " + serviceProperties.getGameTeam());
+			System.out.println("\n" + "begin gatewayService for " + gameDates + " and gameTeam = " + serviceProperties.getGameTeam());
 		}
 
 		ConfigurableApplicationContext ctx = SpringApplication.run(ScoreGame.class, args);
-		GatewayService gatewayService = ctx.getBean(GatewayService.class);
-		List<Game> games = gatewayService.processGames(serviceProperties);
+		List<Game> games;
+		if (serviceProperties.isDateRange()) {
+			GameRangeService gameRangeService = ctx.getBean(GameRangeService.class);
+			games = gameRangeService.processGames(serviceProperties);
+		}
+		else {
+			GatewayService gatewayService = ctx.getBean(GatewayService.class);
+			games = gatewayService.processGames(serviceProperties);
+		}
 
 		if (games != null && games.size() > 0) {
 			System.out.println("end gatewayService, processed " + games.size() + " games" + "\n");
@@ -73,6 +124,8 @@ public class ScoreGame {
 		else {
 			System.out.println("end gatewayService, no games processed");
 		}
+		ctx.getBean(CacheStatisticsService.class).publish();
+		ctx.getBean(MetricService.class).logMetrics();
 		ctx.close();
 	}
 }
\ No newline at end of file
@@ -34,6 +34,10 @@ public class GameAppService {
 		return gameJpaService.findPreviousByTeamKeyAsOfDate(teamKey, asOfDate);
 	}
 
+	public List<LocalDateTime> findScheduledByFromDateTimeAndToDateTime(LocalDateTime fromDateTime, LocalDateTime toDateTime) {
+		return gameJpaService.findScheduledByFromDateTimeAndToDateTime(fromDateTime, toDateTime);
+	}
+
 	public List<Game> findByTeamKeyAsOfDateSeason(String teamKey, LocalDate gameDate) {
 		return gameJpaService.findByTeamKeyAndAsOfDateSeason(teamKey, gameDate);
 	}
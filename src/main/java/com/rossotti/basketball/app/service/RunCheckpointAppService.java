@@ -0,0 +1,73 @@
+package com.rossotti.basketball.app.service;
+
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.RunCheckpoint;
+import com.rossotti.basketball.jpa.model.RunCheckpoint.RunStatus;
+import com.rossotti.basketball.jpa.service.GameJpaService;
+import com.rossotti.basketball.jpa.service.RunCheckpointJpaService;
+import com.rossotti.basketball.util.function.DateTimeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public class RunCheckpointAppService {
+	private final RunCheckpointJpaService runCheckpointJpaService;
+
+	private final GameJpaService gameJpaService;
+
+	private final Logger logger = LoggerFactory.getLogger(RunCheckpointAppService.class);
+
+	@Autowired
+	public RunCheckpointAppService(RunCheckpointJpaService runCheckpointJpaService, GameJpaService gameJpaService) {
+		this.runCheckpointJpaService = runCheckpointJpaService;
+		this.gameJpaService = gameJpaService;
+	}
+
+	public boolean isRunCompleted(LocalDate gameDate) {
+		RunCheckpoint runCheckpoint = runCheckpointJpaService.findByGameDate(gameDate);
+		return runCheckpoint.isFound() && runCheckpoint.isCompleted();
+	}
+
+	public RunCheckpoint startRun(LocalDate gameDate, int gameCount) {
+		return saveRun(gameDate, gameCount, RunStatus.Started);
+	}
+
+	public RunCheckpoint completeRun(LocalDate gameDate) {
+		List<Game> games = gameJpaService.findByAsOfDate(gameDate);
+		for (Game game : games) {
+			if (game.isScheduled()) {
+				logger.info("Run not completed for " + DateTimeConverter.getStringDate(gameDate) + ": scheduled games remain");
+				return runCheckpointJpaService.findByGameDate(gameDate);
+			}
+		}
+		return saveRun(gameDate, games.size(), RunStatus.Completed);
+	}
+
+	private RunCheckpoint saveRun(LocalDate gameDate, int gameCount, RunStatus status) {
+		RunCheckpoint runCheckpoint = new RunCheckpoint();
+		runCheckpoint.setGameDate(gameDate);
+		runCheckpoint.setGameCount((short)gameCount);
+		runCheckpoint.setStatus(status);
+		RunCheckpoint savedCheckpoint = runCheckpointJpaService.update(runCheckpoint);
+		if (savedCheckpoint.isNotFound()) {
+			try {
+				savedCheckpoint = runCheckpointJpaService.create(runCheckpoint);
+			}
+			catch (DataIntegrityViolationException dive) {
+				logger.info("Run checkpoint " + DateTimeConverter.getStringDate(gameDate) + " inserted by a concurrent run");
+			}
+			//a concurrent run inserted the date between the update and the create, apply this run's status to its row
+			if (!savedCheckpoint.isCreated()) {
+				savedCheckpoint = runCheckpointJpaService.update(runCheckpoint);
+			}
+		}
+		logger.debug("Run checkpoint " + DateTimeConverter.getStringDate(gameDate) + ": " + status);
+		return savedCheckpoint;
+	}
+}
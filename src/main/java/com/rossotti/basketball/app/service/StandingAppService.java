@@ -15,6 +15,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -92,6 +93,10 @@ public class StandingAppService {
 		return standingJpaService.create(standing);
 	}
 
+	public List<Standing> createStandings(List<Standing> standings) {
+		return standingJpaService.createAll(standings);
+	}
+
 	public Standing updateStanding(Standing standing) {
 		return standingJpaService.update(standing);
 	}
@@ -137,6 +142,84 @@ public class StandingAppService {
 		return standingsMap;
 	}
 
+	//same records as buildStandingsMap, buildHeadToHeadMap and calculateStrengthOfSchedule per team,
+	//from one season query and team by team head to head counts indexed by position in standings
+	public Map<String, StandingRecord> buildStrengthOfScheduleMap(List<Standing> standings, LocalDate asOfDate) {
+		int teamCount = standings.size();
+		Map<String, Integer> ordinals = new HashMap<>();
+		int[] gamesWon = new int[teamCount];
+		int[] gamesPlayed = new int[teamCount];
+		for (int i = 0; i < teamCount; i++) {
+			Standing standing = standings.get(i);
+			ordinals.put(standing.getTeam().getTeamKey(), i);
+			gamesWon[i] = standing.getGamesWon();
+			gamesPlayed[i] = standing.getGamesPlayed();
+		}
+
+		//opponent wins and games against each team, and each team's opponents in date order
+		int[][] headToHeadWon = new int[teamCount][teamCount];
+		int[][] headToHeadPlayed = new int[teamCount][teamCount];
+		int[][] schedules = new int[teamCount][16];
+		int[] scheduleSizes = new int[teamCount];
+		for (Game game : gameJpaService.findByAsOfDateSeason(asOfDate)) {
+			BoxScore boxScore0 = game.getBoxScores().get(0);
+			BoxScore boxScore1 = game.getBoxScores().get(1);
+			Integer team0 = ordinals.get(boxScore0.getTeam().getTeamKey());
+			Integer team1 = ordinals.get(boxScore1.getTeam().getTeamKey());
+			if (team0 == null && team1 == null) {
+				continue;
+			}
+			if (team0 == null || team1 == null) {
+				throw new IllegalStateException("Opponent not in standings " + boxScore0.getTeam().getTeamKey() + " " + boxScore1.getTeam().getTeamKey());
+			}
+			addOpponent(team0, team1, boxScore1, headToHeadWon, headToHeadPlayed, schedules, scheduleSizes);
+			addOpponent(team1, team0, boxScore0, headToHeadWon, headToHeadPlayed, schedules, scheduleSizes);
+		}
+
+		int[] opptGamesWon = new int[teamCount];
+		int[] opptGamesPlayed = new int[teamCount];
+		for (int team = 0; team < teamCount; team++) {
+			for (int i = 0; i < scheduleSizes[team]; i++) {
+				opptGamesWon[team] += gamesWon[schedules[team][i]];
+				opptGamesPlayed[team] += gamesPlayed[schedules[team][i]];
+			}
+		}
+
+		Map<String, StandingRecord> strengthOfScheduleMap = new HashMap<>();
+		for (Map.Entry<String, Integer> ordinal : ordinals.entrySet()) {
+			int team = ordinal.getValue();
+			int sosGamesWon = 0;
+			int sosGamesPlayed = 0;
+			int sosOpptGamesWon = 0;
+			int sosOpptGamesPlayed = 0;
+			for (int i = 0; i < scheduleSizes[team]; i++) {
+				int oppt = schedules[team][i];
+				int headToHeadGames = headToHeadPlayed[team][oppt];
+				sosGamesWon = sosGamesWon + gamesWon[oppt] - headToHeadWon[team][oppt];
+				sosGamesPlayed = sosGamesPlayed + gamesPlayed[oppt] - headToHeadGames;
+				sosOpptGamesWon = sosOpptGamesWon + opptGamesWon[oppt] - headToHeadGames * gamesWon[team];
+				sosOpptGamesPlayed = sosOpptGamesPlayed + opptGamesPlayed[oppt] - headToHeadGames * gamesPlayed[team];
+				//clamped game by game as in calculateStrengthOfSchedule
+				if (sosGamesWon > sosGamesPlayed) {
+					sosGamesWon = sosGamesPlayed;
+				}
+			}
+			strengthOfScheduleMap.put(ordinal.getKey(), new StandingRecord(sosGamesWon, sosGamesPlayed, sosOpptGamesWon, sosOpptGamesPlayed));
+		}
+		return strengthOfScheduleMap;
+	}
+
+	private void addOpponent(int team, int oppt, BoxScore opptBoxScore, int[][] headToHeadWon, int[][] headToHeadPlayed, int[][] schedules, int[] scheduleSizes) {
+		if (opptBoxScore.getResult() != null && opptBoxScore.getResult().equals(BoxScore.Result.Win)) {
+			headToHeadWon[team][oppt]++;
+		}
+		headToHeadPlayed[team][oppt]++;
+		if (scheduleSizes[team] == schedules[team].length) {
+			schedules[team] = Arrays.copyOf(schedules[team], schedules[team].length * 2);
+		}
+		schedules[team][scheduleSizes[team]++] = oppt;
+	}
+
 	public Map<String, StandingRecord> buildHeadToHeadMap(String teamKey, LocalDate asOfDate, Map<String, StandingRecord> standingsMap) {
 		Map<String, StandingRecord> headToHeadMap = new HashMap<>();
 		List<Game> completeGames = gameJpaService.findByTeamKeyAndAsOfDateSeason(teamKey, asOfDate);
@@ -1,5 +1,6 @@
 package com.rossotti.basketball.business.model;
 
+import com.rossotti.basketball.client.dto.GameDTO;
 import com.rossotti.basketball.jpa.model.Game;
 
 public class GameBusiness extends StatusCodeBusiness {
@@ -27,4 +28,13 @@ public class GameBusiness extends StatusCodeBusiness {
 	public void setRosterLastTeam(String rosterLastTeam) {
 		this.rosterLastTeam = rosterLastTeam;
 	}
+
+	//box score kept while the roster is rebuilt, so the retry does not fetch it again
+	private GameDTO gameDTO;
+	public GameDTO getGameDTO() {
+		return gameDTO;
+	}
+	public void setGameDTO(GameDTO gameDTO) {
+		this.gameDTO = gameDTO;
+	}
 }
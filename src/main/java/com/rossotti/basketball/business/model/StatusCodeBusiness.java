@@ -9,7 +9,8 @@ public class StatusCodeBusiness {
 		RosterUpdate,
 		RosterComplete,
 		OfficialError,
-		TeamError
+		TeamError,
+		Deferred
 	}
 	private StatusCode statusCode;
 	public void setStatusCode(StatusCode statusCode) {
@@ -40,5 +41,8 @@ public class StatusCodeBusiness {
 	public Boolean isTeamError() {
 		return statusCode == StatusCode.TeamError;
 	}
+	public Boolean isDeferred() {
+		return statusCode == StatusCode.Deferred;
+	}
 
 }
\ No newline at end of file
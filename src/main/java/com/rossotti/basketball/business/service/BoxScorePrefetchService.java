@@ -0,0 +1,150 @@
+package com.rossotti.basketball.business.service;
+
+import com.rossotti.basketball.client.dto.GameDTO;
+import com.rossotti.basketball.util.function.DateTimeConverter;
+import com.rossotti.basketball.util.service.PropertyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+//fetches box scores ahead of the scorer on one background thread, at most window box scores are
+//fetched or waiting to be taken at once and the rest queue up in order until a slot frees
+@Service
+public class BoxScorePrefetchService {
+	private final int window;
+	private final Map<String, PrefetchTask> prefetchTasks = new LinkedHashMap<>();
+	private final Deque<PendingEvent> pendingEvents = new ArrayDeque<>();
+
+	private final ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "boxScorePrefetch");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Logger logger = LoggerFactory.getLogger(BoxScorePrefetchService.class);
+
+	@Autowired
+	public BoxScorePrefetchService(PropertyService propertyService) {
+		this.window = propertyService.getProperty_Int("accumulator.prefetch.window", 3);
+	}
+
+	//queues the events behind those already waiting
+	public synchronized void prefetch(List<String> events, Function<String, GameDTO> loader) {
+		for (String event : events) {
+			if (!isQueued(event)) {
+				pendingEvents.addLast(new PendingEvent(event, loader));
+			}
+		}
+		fill();
+	}
+
+	//queues the events ahead of those already waiting, the games being scored now go first
+	public synchronized void prefetchFirst(List<String> events, Function<String, GameDTO> loader) {
+		for (int i = events.size() - 1; i >= 0; i--) {
+			String event = events.get(i);
+			pendingEvents.removeIf(pendingEvent -> pendingEvent.event.equals(event));
+			if (!prefetchTasks.containsKey(event)) {
+				pendingEvents.addFirst(new PendingEvent(event, loader));
+			}
+		}
+		fill();
+	}
+
+	//returns null when the event was never prefetched or its fetch had not started, caller fetches itself
+	public GameDTO take(String event) {
+		PrefetchTask prefetchTask;
+		synchronized (this) {
+			prefetchTask = prefetchTasks.remove(event);
+			pendingEvents.removeIf(pendingEvent -> pendingEvent.event.equals(event));
+			fill();
+		}
+		if (prefetchTask == null || prefetchTask.started.compareAndSet(false, true)) {
+			return null;
+		}
+		return prefetchTask.gameDTO.join();
+	}
+
+	//drops the box scores of a date nobody took, events of other dates and their runs are kept
+	public synchronized void release(LocalDate gameDate) {
+		String prefix = DateTimeConverter.getStringDateNaked(gameDate) + "-";
+		Iterator<Map.Entry<String, PrefetchTask>> iterator = prefetchTasks.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, PrefetchTask> entry = iterator.next();
+			if (entry.getKey().startsWith(prefix)) {
+				entry.getValue().started.set(true);
+				iterator.remove();
+			}
+		}
+		pendingEvents.removeIf(pendingEvent -> pendingEvent.event.startsWith(prefix));
+		fill();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executorService.shutdownNow();
+	}
+
+	private void fill() {
+		while (prefetchTasks.size() < window && !pendingEvents.isEmpty()) {
+			PendingEvent pendingEvent = pendingEvents.pollFirst();
+			PrefetchTask prefetchTask = new PrefetchTask();
+			prefetchTasks.put(pendingEvent.event, prefetchTask);
+			logger.debug("Prefetch box score: " + pendingEvent.event);
+			executorService.execute(() -> prefetchTask.run(pendingEvent.event, pendingEvent.loader));
+		}
+	}
+
+	private boolean isQueued(String event) {
+		if (prefetchTasks.containsKey(event)) {
+			return true;
+		}
+		for (PendingEvent pendingEvent : pendingEvents) {
+			if (pendingEvent.event.equals(event)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static class PendingEvent {
+		private final String event;
+		private final Function<String, GameDTO> loader;
+
+		private PendingEvent(String event, Function<String, GameDTO> loader) {
+			this.event = event;
+			this.loader = loader;
+		}
+	}
+
+	private class PrefetchTask {
+		private final AtomicBoolean started = new AtomicBoolean();
+		private final CompletableFuture<GameDTO> gameDTO = new CompletableFuture<>();
+
+		private void run(String event, Function<String, GameDTO> loader) {
+			if (started.compareAndSet(false, true)) {
+				try {
+					gameDTO.complete(loader.apply(event));
+				}
+				catch (Exception e) {
+					logger.info("Prefetch exception = " + e);
+					gameDTO.complete(null);
+				}
+			}
+		}
+	}
+}
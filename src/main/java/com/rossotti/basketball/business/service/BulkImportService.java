@@ -0,0 +1,190 @@
+package com.rossotti.basketball.business.service;
+
+import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.app.service.RunCheckpointAppService;
+import com.rossotti.basketball.business.model.GameBusiness;
+import com.rossotti.basketball.business.model.StandingsBusiness;
+import com.rossotti.basketball.business.model.StatusCodeBusiness.StatusCode;
+import com.rossotti.basketball.client.dto.GameDTO;
+import com.rossotti.basketball.client.service.FileStatsService;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.function.DateTimeConverter;
+import com.rossotti.basketball.util.service.PropertyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+//loads archived box scores for a range of dates, decoding files on a fork-join pool a few dates ahead
+//games are scored one date at a time in date order so days off and roster dates build on the earlier dates
+@Service
+public class BulkImportService {
+	private static final int maxRosterUpdates = 3;
+
+	private final GameAppService gameAppService;
+
+	private final GameBusService gameBusService;
+
+	private final RosterPlayerBusService rosterPlayerBusService;
+
+	private final StandingBusService standingBusService;
+
+	private final RunCheckpointAppService runCheckpointAppService;
+
+	private final FileStatsService fileStatsService;
+
+	private final PropertyService propertyService;
+
+	private final TransactionTemplate dateTransaction;
+
+	private final Logger logger = LoggerFactory.getLogger(BulkImportService.class);
+
+	@Autowired
+	public BulkImportService(GameAppService gameAppService, GameBusService gameBusService, RosterPlayerBusService rosterPlayerBusService, StandingBusService standingBusService, RunCheckpointAppService runCheckpointAppService, FileStatsService fileStatsService, PropertyService propertyService, PlatformTransactionManager transactionManager) {
+		this.gameAppService = gameAppService;
+		this.gameBusService = gameBusService;
+		this.rosterPlayerBusService = rosterPlayerBusService;
+		this.standingBusService = standingBusService;
+		this.runCheckpointAppService = runCheckpointAppService;
+		this.fileStatsService = fileStatsService;
+		this.propertyService = propertyService;
+		this.dateTransaction = new TransactionTemplate(transactionManager);
+	}
+
+	//returns the number of games completed
+	public int importGames(LocalDate fromDate, LocalDate toDate) {
+		int parallelism = propertyService.getProperty_Int("accumulator.import.parallelism", Runtime.getRuntime().availableProcessors());
+		int datesAhead = propertyService.getProperty_Int("accumulator.import.datesAhead", 7);
+		ForkJoinPool forkJoinPool = new ForkJoinPool(Math.max(parallelism, 1));
+		Deque<DateImport> dateImports = new ArrayDeque<>();
+		LocalDate nextDate = fromDate;
+		int completed = 0;
+		try {
+			while (true) {
+				while (dateImports.size() < Math.max(datesAhead, 1) && !nextDate.isAfter(toDate)) {
+					List<Game> games = gameAppService.findByAsOfDate(nextDate);
+					if (games.size() > 0) {
+						dateImports.addLast(decode(nextDate, games, forkJoinPool));
+					}
+					nextDate = nextDate.plusDays(1);
+				}
+				DateImport dateImport = dateImports.pollFirst();
+				if (dateImport == null) {
+					break;
+				}
+				completed += importDate(dateImport);
+			}
+		}
+		finally {
+			forkJoinPool.shutdownNow();
+		}
+		logger.info("bulkImport: " + DateTimeConverter.getStringDate(fromDate) + " to " + DateTimeConverter.getStringDate(toDate) + " completed " + completed + " games");
+		return completed;
+	}
+
+	private DateImport decode(LocalDate gameDate, List<Game> games, ForkJoinPool forkJoinPool) {
+		DateImport dateImport = new DateImport(gameDate, games);
+		for (Game game : games) {
+			if (game.isScheduled()) {
+				String event = gameBusService.getEvent(game);
+				dateImport.gameDTOs.put(event, CompletableFuture.supplyAsync(() -> fileStatsService.retrieveBoxScore(event), forkJoinPool));
+			}
+		}
+		return dateImport;
+	}
+
+	private int importDate(DateImport dateImport) {
+		String gameDate = DateTimeConverter.getStringDate(dateImport.gameDate);
+		runCheckpointAppService.startRun(dateImport.gameDate, dateImport.games.size());
+		List<Game> games = dateImport.games;
+		int completed;
+		try {
+			//the date's writes share one transaction and are flushed as jdbc batches on commit
+			completed = dateTransaction.execute(status -> scoreGames(dateImport, dateImport.games));
+		}
+		catch (RuntimeException e) {
+			//one failed write rolls back the whole date, the date is reloaded and scored one transaction per game
+			logger.info("bulkImport: " + gameDate + " batch rolled back, scoring games one at a time: " + e);
+			games = gameAppService.findByAsOfDate(dateImport.gameDate);
+			completed = scoreGames(dateImport, games);
+		}
+		boolean standingsReady = games.stream().allMatch(game -> game.isCompleted() || game.isPostponed() || game.isCancelled());
+		if (standingsReady) {
+			StandingsBusiness standingsBusiness = standingBusService.rankStandings(gameDate);
+			if (standingsBusiness.isCompleted()) {
+				runCheckpointAppService.completeRun(dateImport.gameDate);
+			}
+		}
+		logger.info("bulkImport: " + gameDate + " gameCount: " + games.size() + " completed: " + completed + " standings: " + standingsReady);
+		return completed;
+	}
+
+	private int scoreGames(DateImport dateImport, List<Game> games) {
+		int completed = 0;
+		for (Game game : games) {
+			if (game.isScheduled()) {
+				String event = gameBusService.getEvent(game);
+				GameBusiness gameBusiness;
+				GameDTO gameDTO = join(dateImport.gameDTOs.get(event));
+				if (gameDTO == null) {
+					//never fall back to the scorer's own fetch, in Api mode it would call the live api during an import
+					gameBusiness = new GameBusiness(game, StatusCode.ServerError);
+				}
+				else {
+					gameBusiness = new GameBusiness(game, StatusCode.Initial);
+					gameBusiness.setGameDTO(gameDTO);
+					gameBusiness = gameBusService.scoreGame(gameBusiness);
+					for (int update = 0; gameBusiness.isRosterUpdate() && update < maxRosterUpdates; update++) {
+						gameBusiness = rosterPlayerBusService.loadRoster(gameBusiness);
+						if (gameBusiness.isRosterComplete()) {
+							gameBusiness = gameBusService.scoreGame(gameBusiness);
+						}
+					}
+				}
+				if (gameBusiness.isCompleted() && gameBusiness.getGame().isCompleted()) {
+					completed++;
+				}
+				else {
+					logger.info("bulkImport: " + DateTimeConverter.getStringDate(dateImport.gameDate) + " " + event + " " + gameBusiness.getStatusCode());
+				}
+			}
+		}
+		return completed;
+	}
+
+	//a failed or missing decode leaves the dto null
+	private GameDTO join(CompletableFuture<GameDTO> gameDTO) {
+		if (gameDTO == null) {
+			return null;
+		}
+		try {
+			return gameDTO.join();
+		}
+		catch (Exception e) {
+			logger.info("Decode exception = " + e);
+			return null;
+		}
+	}
+
+	private static class DateImport {
+		private final LocalDate gameDate;
+		private final List<Game> games;
+		private final Map<String, CompletableFuture<GameDTO>> gameDTOs = new HashMap<>();
+
+		private DateImport(LocalDate gameDate, List<Game> games) {
+			this.gameDate = gameDate;
+			this.games = games;
+		}
+	}
+}
@@ -14,7 +14,6 @@ import com.rossotti.basketball.jpa.model.*;
 import com.rossotti.basketball.jpa.model.BoxScore.Result;
 import com.rossotti.basketball.jpa.model.Game.GameStatus;
 import com.rossotti.basketball.util.function.DateTimeConverter;
-import com.rossotti.basketball.util.function.ThreadSleep;
 import com.rossotti.basketball.util.service.PropertyService;
 import com.rossotti.basketball.util.service.PropertyService.ClientSource;
 import com.rossotti.basketball.util.service.exception.PropertyException;
@@ -24,6 +23,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 public class GameBusService {
@@ -41,10 +42,12 @@ public class GameBusService {
 
 	private final GameAppService gameAppService;
 
+	private final BoxScorePrefetchService boxScorePrefetchService;
+
 	private final Logger logger = LoggerFactory.getLogger(GameBusService.class);
 
 	@Autowired
-	public GameBusService(OfficialAppService officialAppService, RestStatsService restStatsService, TeamAppService teamAppService, RosterPlayerAppService rosterPlayerAppService, GameAppService gameAppService, PropertyService propertyService, FileStatsService fileStatsService) {
+	public GameBusService(OfficialAppService officialAppService, RestStatsService restStatsService, TeamAppService teamAppService, RosterPlayerAppService rosterPlayerAppService, GameAppService gameAppService, PropertyService propertyService, FileStatsService fileStatsService, BoxScorePrefetchService boxScorePrefetchService) {
 		this.officialAppService = officialAppService;
 		this.restStatsService = restStatsService;
 		this.teamAppService = teamAppService;
@@ -52,10 +55,12 @@ public class GameBusService {
 		this.gameAppService = gameAppService;
 		this.propertyService = propertyService;
 		this.fileStatsService = fileStatsService;
+		this.boxScorePrefetchService = boxScorePrefetchService;
 	}
 
-	private GameBusiness scoreGame(Game game, String previousUpdateTeam) {
+	private GameBusiness scoreGame(Game game, String previousUpdateTeam, GameDTO previousGameDTO) {
 		GameBusiness gameBusiness = new GameBusiness(game);
+		GameDTO gameDTO = previousGameDTO;
 		try {
 			BoxScore awayBoxScore = game.getBoxScoreAway();
 			BoxScore homeBoxScore = game.getBoxScoreHome();
@@ -64,23 +69,16 @@ public class GameBusService {
 			LocalDateTime gameDateTime = game.getGameDateTime();
 			LocalDate gameDate = DateTimeConverter.getLocalDate(gameDateTime);
 
-			String event = DateTimeConverter.getStringDateNaked(gameDateTime) + "-" + awayTeamKey + "-at-" + homeTeamKey;
+			String event = getEvent(game);
 
 			if (game.isScheduled()) {
 				logger.debug("Scheduled game ready to be scored: " + event);
 
-				GameDTO gameDTO = null;
-				ClientSource clientSource = propertyService.getProperty_ClientSource("accumulator.source.boxScore");
-				if (clientSource == ClientSource.File) {
-					gameDTO = fileStatsService.retrieveBoxScore(event);
-				}
-				else if (clientSource == ClientSource.Api) {
-					ThreadSleep.sleep(propertyService.getProperty_Int("sleep.duration"));
-					gameDTO = restStatsService.retrieveBoxScore(event, false);
+				if (gameDTO == null) {
+					gameDTO = boxScorePrefetchService.take(event);
 				}
-				else {
-					logger.info("Unknown property");
-					gameBusiness.setStatusCode(StatusCode.ClientError);
+				if (gameDTO == null) {
+					gameDTO = retrieveBoxScore(event);
 				}
 
 				if (gameDTO == null || gameDTO.isNotFound()) {
@@ -128,6 +126,14 @@ public class GameBusService {
 					logger.info("Client exception");
 					gameBusiness.setStatusCode(StatusCode.ClientError);
 				}
+				else if (gameDTO.isDeferred()) {
+					logger.info("Client circuit open - game deferred");
+					gameBusiness.setStatusCode(StatusCode.Deferred);
+				}
+				else if (gameDTO.isServerException()) {
+					logger.info("Server exception - client request failed after retries");
+					gameBusiness.setStatusCode(StatusCode.ServerError);
+				}
 			}
 			else {
 				logger.info(game.getStatus() + " game not eligible to be scored: " + event);
@@ -152,6 +158,7 @@ public class GameBusService {
 					logger.info("Roster Player not found - problem between box score and roster");
 					gameBusiness.setStatusCode(StatusCode.RosterUpdate);
 				}
+				gameBusiness.setGameDTO(gameDTO);
 			}
 		}
 		catch (PropertyException pe) {
@@ -165,15 +172,67 @@ public class GameBusService {
 		return gameBusiness;
 	}
 
+	public GameDTO retrieveBoxScore(String event) {
+		ClientSource clientSource = propertyService.getProperty_ClientSource("accumulator.source.boxScore");
+		if (clientSource == ClientSource.File) {
+			return fileStatsService.retrieveBoxScore(event);
+		}
+		else if (clientSource == ClientSource.Api) {
+			return restStatsService.retrieveBoxScore(event, false);
+		}
+		else if (clientSource == ClientSource.Hybrid) {
+			GameDTO gameDTO = fileStatsService.retrieveBoxScore(event);
+			if (!gameDTO.isFound()) {
+				gameDTO = restStatsService.retrieveBoxScore(event, true);
+			}
+			return gameDTO;
+		}
+		else {
+			logger.info("Unknown property");
+			return null;
+		}
+	}
+
+	//queued behind any box scores already waiting, used for the next date of a range
+	public void prefetchBoxScores(List<Game> games) {
+		boxScorePrefetchService.prefetch(getScheduledEvents(games), this::retrieveBoxScore);
+	}
+
+	//queued ahead of everything else, used for the games about to be scored
+	public void prefetchBoxScoresFirst(List<Game> games) {
+		boxScorePrefetchService.prefetchFirst(getScheduledEvents(games), this::retrieveBoxScore);
+	}
+
+	//called once the date's games are aggregated, frees the window slots of games that never took their box score
+	public void releaseBoxScores(LocalDate gameDate) {
+		boxScorePrefetchService.release(gameDate);
+	}
+
+	private List<String> getScheduledEvents(List<Game> games) {
+		List<String> events = new ArrayList<>();
+		for (Game game : games) {
+			if (game.isScheduled()) {
+				events.add(getEvent(game));
+			}
+		}
+		return events;
+	}
+
+	public String getEvent(Game game) {
+		return DateTimeConverter.getStringDateNaked(game.getGameDateTime()) + "-" +
+			game.getBoxScoreAway().getTeam().getTeamKey() + "-at-" +
+			game.getBoxScoreHome().getTeam().getTeamKey();
+	}
+
 	public GameBusiness scoreGame(GameBusiness gameBusiness) {
 		if (gameBusiness.isServerError()) {
 			return gameBusiness;
 		}
 		else if(gameBusiness.isRosterUpdate()) {
-			return scoreGame(gameBusiness.getGame(), gameBusiness.getRosterLastTeam());
+			return scoreGame(gameBusiness.getGame(), gameBusiness.getRosterLastTeam(), gameBusiness.getGameDTO());
 		}
 		else {
-			return scoreGame(gameBusiness.getGame(), null);
+			return scoreGame(gameBusiness.getGame(), null, gameBusiness.getGameDTO());
 		}
 	}
 }
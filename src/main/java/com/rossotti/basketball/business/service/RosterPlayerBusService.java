@@ -14,7 +14,6 @@ import com.rossotti.basketball.jpa.model.RosterPlayer;
 import com.rossotti.basketball.jpa.model.Team;
 import com.rossotti.basketball.util.function.DateTimeConverter;
 import com.rossotti.basketball.util.function.FormatString;
-import com.rossotti.basketball.util.function.ThreadSleep;
 import com.rossotti.basketball.util.service.PropertyService;
 import com.rossotti.basketball.util.service.PropertyService.ClientSource;
 import com.rossotti.basketball.util.service.exception.PropertyException;
@@ -24,7 +23,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class RosterPlayerBusService {
@@ -38,6 +41,9 @@ public class RosterPlayerBusService {
 
 	private final PlayerAppService playerAppService;
 
+	//one load per team and date, concurrent callers share its result and no team roster is rebuilt twice at once
+	private final Map<String, CompletableFuture<RosterPlayerBusiness>> rosterLoads = new HashMap<>();
+
 	private final Logger logger = LoggerFactory.getLogger(RosterPlayerBusService.class);
 
 	@Autowired
@@ -50,6 +56,50 @@ public class RosterPlayerBusService {
 	}
 
 	public RosterPlayerBusiness loadRoster(String asOfDateString, String teamKey) {
+		String key = teamKey + "/" + asOfDateString;
+		CompletableFuture<RosterPlayerBusiness> rosterLoad;
+		synchronized (rosterLoads) {
+			rosterLoad = rosterLoads.get(key);
+			if (rosterLoad == null) {
+				rosterLoads.put(key, new CompletableFuture<>());
+			}
+		}
+		if (rosterLoad != null) {
+			logger.info("Roster load in progress for team = " + teamKey + " asOfDate = " + asOfDateString + ", waiting");
+			try {
+				return rosterLoad.join();
+			}
+			catch (CompletionException ce) {
+				//fail with the loader's own exception, as the loader does
+				if (ce.getCause() instanceof RuntimeException) {
+					throw (RuntimeException)ce.getCause();
+				}
+				if (ce.getCause() instanceof Error) {
+					throw (Error)ce.getCause();
+				}
+				throw ce;
+			}
+		}
+
+		try {
+			RosterPlayerBusiness rosterPlayerBusiness = fetchRoster(asOfDateString, teamKey);
+			removeRosterLoad(key).complete(rosterPlayerBusiness);
+			return rosterPlayerBusiness;
+		}
+		catch (Throwable t) {
+			//waiting callers fail with the loader instead of receiving a null roster
+			removeRosterLoad(key).completeExceptionally(t);
+			throw t;
+		}
+	}
+
+	private CompletableFuture<RosterPlayerBusiness> removeRosterLoad(String key) {
+		synchronized (rosterLoads) {
+			return rosterLoads.remove(key);
+		}
+	}
+
+	private RosterPlayerBusiness fetchRoster(String asOfDateString, String teamKey) {
 		RosterPlayerBusiness rosterPlayerBusiness = new RosterPlayerBusiness();
 		try {
 			RosterDTO rosterDTO;
@@ -60,9 +110,14 @@ public class RosterPlayerBusService {
 				rosterDTO = fileStatsService.retrieveRoster(teamKey, fromDate);
 			}
 			else if (clientSource == ClientSource.Api) {
-				ThreadSleep.sleep(propertyService.getProperty_Int("sleep.duration"));
 				rosterDTO = restStatsService.retrieveRoster(teamKey, true, fromDate);
 			}
+			else if (clientSource == ClientSource.Hybrid) {
+				rosterDTO = fileStatsService.retrieveRoster(teamKey, fromDate);
+				if (!rosterDTO.isFound()) {
+					rosterDTO = restStatsService.retrieveRoster(teamKey, true, fromDate);
+				}
+			}
 			else {
 				throw new PropertyException("Unknown");
 			}
@@ -169,6 +224,14 @@ public class RosterPlayerBusService {
 				logger.info("Client exception");
 				rosterPlayerBusiness.setStatusCode(StatusCode.ClientError);
 			}
+			else if (rosterDTO.isDeferred()) {
+				logger.info("Client circuit open - roster deferred");
+				rosterPlayerBusiness.setStatusCode(StatusCode.Deferred);
+			}
+			else if (rosterDTO.isServerException()) {
+				logger.info("Server exception - client request failed after retries");
+				rosterPlayerBusiness.setStatusCode(StatusCode.ServerError);
+			}
 		}
 		catch (NoSuchEntityException nse) {
 			if (nse.getEntityClass().equals(Team.class)) {
@@ -196,6 +259,9 @@ public class RosterPlayerBusService {
 		else if (rosterPlayerBusiness.isServerError()) {
 			gameBusiness.setStatusCode(StatusCode.ServerError);
 		}
+		else if (rosterPlayerBusiness.isDeferred()) {
+			gameBusiness.setStatusCode(StatusCode.Deferred);
+		}
 		else if (rosterPlayerBusiness.isCompleted()) {
 			gameBusiness.setStatusCode(StatusCode.RosterComplete);
 		}
@@ -11,7 +11,6 @@ import com.rossotti.basketball.jpa.model.Standing;
 import com.rossotti.basketball.app.model.StandingRecord;
 import com.rossotti.basketball.jpa.model.Team;
 import com.rossotti.basketball.util.function.DateTimeConverter;
-import com.rossotti.basketball.util.function.ThreadSleep;
 import com.rossotti.basketball.util.service.PropertyService;
 import com.rossotti.basketball.util.service.PropertyService.ClientSource;
 import com.rossotti.basketball.util.service.exception.PropertyException;
@@ -57,9 +56,14 @@ public class StandingBusService {
 				standingsDTO = fileStatsService.retrieveStandings(event);
 			}
 			else if (clientSource == ClientSource.Api) {
-				ThreadSleep.sleep(propertyService.getProperty_Int("sleep.duration"));
 				standingsDTO = restStatsService.retrieveStandings(event, false);
 			}
+			else if (clientSource == ClientSource.Hybrid) {
+				standingsDTO = fileStatsService.retrieveStandings(event);
+				if (!standingsDTO.isFound()) {
+					standingsDTO = restStatsService.retrieveStandings(event, true);
+				}
+			}
 			else {
 				throw new PropertyException("Unknown");
 			}
@@ -72,22 +76,24 @@ public class StandingBusService {
 					standingAppService.deleteStandings(asOfDate);
 
 					List<Standing> standings = standingAppService.getStandings(standingsDTO);
-					Map<String, StandingRecord> standingsMap = standingAppService.buildStandingsMap(standings, asOfDate);
+					Map<String, StandingRecord> strengthOfScheduleMap = standingAppService.buildStrengthOfScheduleMap(standings, asOfDate);
 
 					for (Standing standing : standings) {
-						String teamKey = standing.getTeam().getTeamKey();
-						Map<String, StandingRecord> headToHeadMap = standingAppService.buildHeadToHeadMap(teamKey, asOfDate, standingsMap);
-						StandingRecord standingRecord = standingAppService.calculateStrengthOfSchedule(teamKey, asOfDate, standingsMap, headToHeadMap);
+						StandingRecord standingRecord = strengthOfScheduleMap.get(standing.getTeam().getTeamKey());
 						standing.setOpptGamesWon(standingRecord.getGamesWon());
 						standing.setOpptGamesPlayed(standingRecord.getGamesPlayed());
 						standing.setOpptOpptGamesWon(standingRecord.getOpptGamesWon());
 						standing.setOpptOpptGamesPlayed(standingRecord.getOpptGamesPlayed());
-						Standing createdStanding = standingAppService.createStanding(standing);
-						if (createdStanding.isCreated()) {
-							BigDecimal opponentRecord = standingRecord.getGamesPlayed() == 0 ? new BigDecimal(0) : new BigDecimal(standingRecord.getGamesWon()).divide(new BigDecimal(standingRecord.getGamesPlayed()), 4, RoundingMode.HALF_UP);
-							BigDecimal opponentOpponentRecord = standingRecord.getOpptGamesPlayed() == 0 ? new BigDecimal(0) : new BigDecimal(standingRecord.getOpptGamesWon()).divide(new BigDecimal(standingRecord.getOpptGamesPlayed()), 4, RoundingMode.HALF_UP);
-							logger.debug("    Opponent Games Won/Played = " + standingRecord.getGamesWon() + "-" + standingRecord.getGamesPlayed());
-							logger.debug("    OpptOppt Games Won/Played = " + standingRecord.getOpptGamesWon() + "-" + standingRecord.getOpptGamesPlayed());
+					}
+
+					List<Standing> createdStandings = standingAppService.createStandings(standings);
+					for (int i = 0; i < standings.size(); i++) {
+						Standing standing = standings.get(i);
+						if (createdStandings.get(i).isCreated()) {
+							BigDecimal opponentRecord = standing.getOpptGamesPlayed() == 0 ? new BigDecimal(0) : new BigDecimal(standing.getOpptGamesWon()).divide(new BigDecimal(standing.getOpptGamesPlayed()), 4, RoundingMode.HALF_UP);
+							BigDecimal opponentOpponentRecord = standing.getOpptOpptGamesPlayed() == 0 ? new BigDecimal(0) : new BigDecimal(standing.getOpptOpptGamesWon()).divide(new BigDecimal(standing.getOpptOpptGamesPlayed()), 4, RoundingMode.HALF_UP);
+							logger.debug("    Opponent Games Won/Played = " + standing.getOpptGamesWon() + "-" + standing.getOpptGamesPlayed());
+							logger.debug("    OpptOppt Games Won/Played = " + standing.getOpptOpptGamesWon() + "-" + standing.getOpptOpptGamesPlayed());
 							logger.debug("    Opponent Record = " + opponentRecord);
 							logger.debug("    OpptOppt Record = " + opponentOpponentRecord);
 							logger.info("  Strength Of Schedule  " + standing.getTeam().getAbbr() + ": " + opponentRecord.multiply(new BigDecimal(2)).add(opponentOpponentRecord).divide(new BigDecimal(3), 4, RoundingMode.HALF_UP));
@@ -109,6 +115,10 @@ public class StandingBusService {
 				logger.info("Unable to find standings");
 				standingsBusiness.setStatusCode(StatusCode.ClientError);
 			}
+			else if (standingsDTO.isDeferred()) {
+				logger.info("Client circuit open - standings deferred");
+				standingsBusiness.setStatusCode(StatusCode.Deferred);
+			}
 			else {
 				logger.info("Client error retrieving standings");
 				standingsBusiness.setStatusCode(StatusCode.ClientError);
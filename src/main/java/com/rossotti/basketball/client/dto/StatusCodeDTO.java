@@ -5,7 +5,8 @@ public class StatusCodeDTO {
 		Found,
 		NotFound,
 		ClientException,
-		ServerException
+		ServerException,
+		Deferred
 	}
 	private StatusCode statusCode;
 	public StatusCode getStatusCode() {
@@ -26,4 +27,7 @@ public class StatusCodeDTO {
 	public Boolean isServerException() {
 		return statusCode == StatusCode.ServerException;
 	}
+	public Boolean isDeferred() {
+		return statusCode == StatusCode.Deferred;
+	}
 }
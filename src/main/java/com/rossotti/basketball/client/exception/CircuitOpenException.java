@@ -0,0 +1,12 @@
+package com.rossotti.basketball.client.exception;
+
+/**
+ * Exception thrown when the xmlstats circuit breaker is open and the request is not sent.
+ */
+public class CircuitOpenException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public CircuitOpenException(String eventUrl) {
+		super("Circuit Open Exception " + eventUrl);
+	}
+}
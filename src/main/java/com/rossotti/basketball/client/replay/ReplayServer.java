@@ -0,0 +1,223 @@
+package com.rossotti.basketball.client.replay;
+
+import com.rossotti.basketball.util.service.ArchiveService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+//local stand-in for xmlstats serving /nba/{boxscore|roster|standings}/{event}.json on the loopback interface
+//payloads come from {type}/{event}.json, {event}.json or an archive in the directory, synthetic mode answers a miss
+//with the {type}Client.json template, latency, 429s, 5xx errors and a bandwidth cap are injected per request
+public class ReplayServer {
+	private static final Map<String, String> templates = new HashMap<>();
+	static {
+		templates.put("boxscore", "gameClient.json");
+		templates.put("roster", "rosterClient.json");
+		templates.put("standings", "standingsClient.json");
+	}
+
+	private final Path directory;
+	private final ArchiveService archiveService = new ArchiveService();
+	private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+	private final Random random = new Random();
+	private HttpServer httpServer;
+	private ExecutorService executorService;
+
+	private int port;
+	private boolean synthetic;
+	private int latencyMillis;
+	private int latencyJitterMillis;
+	private double throttleRate;
+	private int retryAfterSeconds = 1;
+	private double errorRate;
+	private int bytesPerSecond;
+	private int threads = 8;
+
+	private final Logger logger = LoggerFactory.getLogger(ReplayServer.class);
+
+	public ReplayServer(String directory) {
+		this.directory = Paths.get(directory);
+	}
+
+	//0 picks a free port
+	public void setPort(int port) {
+		this.port = port;
+	}
+	public void setSynthetic(boolean synthetic) {
+		this.synthetic = synthetic;
+	}
+	public void setLatencyMillis(int latencyMillis) {
+		this.latencyMillis = latencyMillis;
+	}
+	public void setLatencyJitterMillis(int latencyJitterMillis) {
+		this.latencyJitterMillis = latencyJitterMillis;
+	}
+	//fraction of requests answered 429 Too Many Requests
+	public void setThrottleRate(double throttleRate) {
+		this.throttleRate = throttleRate;
+	}
+	public void setRetryAfterSeconds(int retryAfterSeconds) {
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+	//fraction of requests answered 503 Service Unavailable
+	public void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+	//0 sends at full speed
+	public void setBytesPerSecond(int bytesPerSecond) {
+		this.bytesPerSecond = bytesPerSecond;
+	}
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+	//fixes the sequence of injected errors so runs can be compared
+	public void setSeed(long seed) {
+		random.setSeed(seed);
+	}
+
+	public void start() throws IOException {
+		httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		executorService = Executors.newFixedThreadPool(threads);
+		httpServer.setExecutor(executorService);
+		httpServer.createContext("/nba/", this::handle);
+		httpServer.start();
+		port = httpServer.getAddress().getPort();
+		logger.info("Replay server listening on " + getBaseUrl() + " serving " + directory);
+	}
+
+	public void stop() {
+		if (httpServer != null) {
+			httpServer.stop(0);
+			executorService.shutdownNow();
+			archiveService.close();
+			httpServer = null;
+		}
+	}
+
+	public int getPort() {
+		return port;
+	}
+
+	//value for xmlstats.urlBoxScore, xmlstats.urlRoster and xmlstats.urlStandings is getBaseUrl() + type + "/"
+	public String getBaseUrl() {
+		return "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + port + "/nba/";
+	}
+
+	public long getCount(int status) {
+		LongAdder count = statusCounts.get(status);
+		return count == null ? 0 : count.sum();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			sleep(latencyMillis + (latencyJitterMillis > 0 ? nextInt(latencyJitterMillis + 1) : 0));
+			String[] segments = exchange.getRequestURI().getPath().split("/");
+			if (segments.length != 4 || !segments[3].endsWith(".json")) {
+				send(exchange, 404, null);
+				return;
+			}
+			String type = segments[2];
+			String event = segments[3].substring(0, segments[3].length() - ".json".length());
+			double draw = nextDouble();
+			if (draw < throttleRate) {
+				exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+				send(exchange, 429, null);
+			}
+			else if (draw < throttleRate + errorRate) {
+				send(exchange, 503, null);
+			}
+			else {
+				byte[] body = findPayload(type, event);
+				send(exchange, body == null ? 404 : 200, body);
+			}
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	private byte[] findPayload(String type, String event) throws IOException {
+		Path typeFile = directory.resolve(type).resolve(event + ".json");
+		if (Files.exists(typeFile)) {
+			return Files.readAllBytes(typeFile);
+		}
+		Path eventFile = directory.resolve(event + ".json");
+		if (Files.exists(eventFile)) {
+			return Files.readAllBytes(eventFile);
+		}
+		if (archiveService.contains(directory.toString(), event)) {
+			try (InputStream inputStream = archiveService.read(directory.toString(), event)) {
+				return StreamUtils.copyToByteArray(inputStream);
+			}
+		}
+		if (synthetic && templates.containsKey(type)) {
+			Path templateFile = directory.resolve(templates.get(type));
+			if (Files.exists(templateFile)) {
+				return Files.readAllBytes(templateFile);
+			}
+		}
+		return null;
+	}
+
+	private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+		statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+		if (body == null) {
+			exchange.sendResponseHeaders(status, -1);
+			return;
+		}
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			if (bytesPerSecond <= 0) {
+				outputStream.write(body);
+				return;
+			}
+			//ten chunks a second keeps the cap smooth without a sleep per byte
+			int chunkSize = Math.max(bytesPerSecond / 10, 1);
+			for (int offset = 0; offset < body.length; offset += chunkSize) {
+				int length = Math.min(chunkSize, body.length - offset);
+				outputStream.write(body, offset, length);
+				outputStream.flush();
+				sleep((int)(TimeUnit.SECONDS.toMillis(length) / bytesPerSecond));
+			}
+		}
+	}
+
+	private synchronized int nextInt(int bound) {
+		return random.nextInt(bound);
+	}
+
+	private synchronized double nextDouble() {
+		return random.nextDouble();
+	}
+
+	private void sleep(int millis) {
+		if (millis > 0) {
+			try {
+				Thread.sleep(millis);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.rossotti.basketball.client.service;
+
+import com.rossotti.basketball.util.service.MetricService;
+import com.rossotti.basketball.util.service.PropertyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+//breaker shared by every xmlstats request, opens when at least minimumCalls of the last window were made and failureRate percent failed
+//open rejects requests for openMillis, then one half-open trial request closes it again or reopens it
+@Service
+public class CircuitBreakerService {
+	public enum State {
+		Closed,
+		Open,
+		HalfOpen
+	}
+
+	private final MetricService metricService;
+	private final int minimumCalls;
+	private final int failureRate;
+	private final long openNanos;
+	private final boolean[] outcomes;
+	private int outcomeCount;
+	private int outcomeIndex;
+	private int failureCount;
+	private State state = State.Closed;
+	private long openedAt;
+	private boolean trialInFlight;
+
+	private final Logger logger = LoggerFactory.getLogger(CircuitBreakerService.class);
+
+	@Autowired
+	public CircuitBreakerService(PropertyService propertyService, MetricService metricService) {
+		this(metricService,
+			propertyService.getProperty_Int("xmlstats.breaker.window", 20),
+			propertyService.getProperty_Int("xmlstats.breaker.minimumCalls", 5),
+			propertyService.getProperty_Int("xmlstats.breaker.failureRate", 50),
+			propertyService.getProperty_Int("xmlstats.breaker.openMillis", 60000));
+	}
+
+	CircuitBreakerService(MetricService metricService, int window, int minimumCalls, int failureRate, int openMillis) {
+		this.metricService = metricService;
+		this.outcomes = new boolean[Math.max(window, 1)];
+		this.minimumCalls = Math.max(minimumCalls, 1);
+		this.failureRate = failureRate;
+		this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+	}
+
+	public synchronized boolean allowRequest() {
+		if (state == State.Open) {
+			if (System.nanoTime() - openedAt < openNanos) {
+				metricService.increment("http.breaker.rejected");
+				return false;
+			}
+			transition(State.HalfOpen);
+		}
+		if (state == State.HalfOpen) {
+			if (trialInFlight) {
+				metricService.increment("http.breaker.rejected");
+				return false;
+			}
+			trialInFlight = true;
+		}
+		return true;
+	}
+
+	public synchronized void recordSuccess() {
+		metricService.increment("http.success");
+		if (state == State.HalfOpen) {
+			clearOutcomes();
+			transition(State.Closed);
+		}
+		else if (state == State.Closed) {
+			recordOutcome(false);
+		}
+	}
+
+	public synchronized void recordFailure() {
+		metricService.increment("http.failure");
+		if (state == State.HalfOpen) {
+			open();
+		}
+		else if (state == State.Closed) {
+			recordOutcome(true);
+			if (outcomeCount >= minimumCalls && failureCount * 100 >= failureRate * outcomeCount) {
+				open();
+			}
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	private void recordOutcome(boolean failure) {
+		if (outcomeCount == outcomes.length) {
+			if (outcomes[outcomeIndex]) {
+				failureCount--;
+			}
+		}
+		else {
+			outcomeCount++;
+		}
+		outcomes[outcomeIndex] = failure;
+		if (failure) {
+			failureCount++;
+		}
+		outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+	}
+
+	private void clearOutcomes() {
+		outcomeCount = 0;
+		outcomeIndex = 0;
+		failureCount = 0;
+	}
+
+	private void open() {
+		openedAt = System.nanoTime();
+		clearOutcomes();
+		transition(State.Open);
+	}
+
+	private void transition(State newState) {
+		logger.info("xmlstats circuit breaker " + state + " -> " + newState);
+		metricService.increment("http.breaker." + newState);
+		state = newState;
+		trialInFlight = false;
+	}
+}
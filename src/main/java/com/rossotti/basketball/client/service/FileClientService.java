@@ -1,30 +1,46 @@
 package com.rossotti.basketball.client.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rossotti.basketball.client.dto.StatusCodeDTO;
 import com.rossotti.basketball.client.dto.StatusCodeDTO.StatusCode;
-import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.rossotti.basketball.util.service.ArchiveService;
+import com.rossotti.basketball.util.service.exception.FileException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 @Service
 public class FileClientService {
 
-	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private final JsonReaderService jsonReaderService;
+
+	private final ArchiveService archiveService;
+
+	@Autowired
+	public FileClientService(JsonReaderService jsonReaderService, ArchiveService archiveService) {
+		this.jsonReaderService = jsonReaderService;
+		this.archiveService = archiveService;
+	}
 
 	public StatusCodeDTO retrieveStats(String stringPath, String event, StatusCodeDTO statusCodeDTO) {
 		String jsonEvent = event + ".json";
 		Path path = Paths.get(stringPath).resolve(jsonEvent);
-		InputStreamReader baseJson = null;
+		InputStream baseJson = null;
 		try {
-			File file = path.toFile();
-			InputStream inputStreamJson = new FileInputStream(file);
-			baseJson = new InputStreamReader(inputStreamJson, StandardCharsets.UTF_8);
-			statusCodeDTO = objectMapper.readValue(baseJson, statusCodeDTO.getClass());
+			if (archiveService.contains(stringPath, event)) {
+				baseJson = archiveService.read(stringPath, event);
+			}
+			else if (path.toFile().exists()) {
+				baseJson = new BufferedInputStream(new FileInputStream(path.toFile()));
+			}
+			else {
+				//expected miss for the hybrid source, no stack trace
+				statusCodeDTO.setStatusCode(StatusCode.NotFound);
+				return statusCodeDTO;
+			}
+			statusCodeDTO = jsonReaderService.read(baseJson, statusCodeDTO.getClass());
 			statusCodeDTO.setStatusCode(StatusCode.Found);
 		} catch (FileNotFoundException fnf) {
 			statusCodeDTO.setStatusCode(StatusCode.NotFound);
@@ -32,6 +48,9 @@ public class FileClientService {
 		} catch (IOException ioe) {
 			statusCodeDTO.setStatusCode(StatusCode.ClientException);
 			ioe.printStackTrace();
+		} catch (FileException fe) {
+			statusCodeDTO.setStatusCode(StatusCode.ClientException);
+			fe.printStackTrace();
 		}
 		finally {
 			try {
@@ -0,0 +1,50 @@
+package com.rossotti.basketball.client.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.rossotti.basketball.util.service.PropertyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class JsonReaderService {
+	private final ObjectMapper objectMapper;
+
+	//ObjectReaders are immutable and thread safe, build one per dto type and reuse it
+	private final Map<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+
+	@Autowired
+	public JsonReaderService(PropertyService propertyService) {
+		this(Boolean.parseBoolean(propertyService.getProperty_String("xmlstats.json.afterburner", "true")));
+	}
+
+	JsonReaderService(boolean afterburner) {
+		Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+			.featuresToDisable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		if (afterburner) {
+			builder.modulesToInstall(new AfterburnerModule());
+		}
+		this.objectMapper = builder.build();
+	}
+
+	public <T> T read(byte[] json, Class<T> type) throws IOException {
+		return getReader(type).readValue(json);
+	}
+
+	//jackson detects the encoding from the raw bytes, no reader or intermediate copy needed
+	public <T> T read(InputStream json, Class<T> type) throws IOException {
+		return getReader(type).readValue(json);
+	}
+
+	private ObjectReader getReader(Class<?> type) {
+		return objectReaders.computeIfAbsent(type, objectMapper::readerFor);
+	}
+}
@@ -0,0 +1,50 @@
+package com.rossotti.basketball.client.service;
+
+import com.rossotti.basketball.util.service.PropertyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class RateLimiterService {
+	private final double capacity;
+	private final long nanosPerToken;
+	private double tokens;
+	private long lastRefill;
+
+	@Autowired
+	public RateLimiterService(PropertyService propertyService) {
+		this(propertyService.getProperty_Int("xmlstats.rate.requestsPerMinute", 6), propertyService.getProperty_Int("xmlstats.rate.burst", 1));
+	}
+
+	RateLimiterService(int requestsPerMinute, int burst) {
+		this.capacity = Math.max(burst, 1);
+		this.nanosPerToken = TimeUnit.MINUTES.toNanos(1) / Math.max(requestsPerMinute, 1);
+		this.tokens = capacity;
+		this.lastRefill = System.nanoTime();
+	}
+
+	//blocks until the quota allows one more request, returns the milliseconds waited
+	public long acquire() {
+		long waitNanos = reserve();
+		if (waitNanos > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(waitNanos);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return TimeUnit.NANOSECONDS.toMillis(waitNanos);
+	}
+
+	//takes a token, going negative when the bucket is empty so waiting callers queue up in order
+	synchronized long reserve() {
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (double)(now - lastRefill) / nanosPerToken);
+		lastRefill = now;
+		tokens -= 1;
+		return tokens >= 0 ? 0 : (long)(-tokens * nanosPerToken);
+	}
+}
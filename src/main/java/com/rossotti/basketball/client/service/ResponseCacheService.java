@@ -0,0 +1,149 @@
+package com.rossotti.basketball.client.service;
+
+import com.rossotti.basketball.util.service.PropertyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class ResponseCacheService {
+	private final PropertyService propertyService;
+
+	private final Logger logger = LoggerFactory.getLogger(ResponseCacheService.class);
+
+	@Autowired
+	public ResponseCacheService(PropertyService propertyService) {
+		this.propertyService = propertyService;
+	}
+
+	//returns null when caching is disabled or the url has not been cached
+	public CachedResponse get(String eventUrl, String eventType) {
+		Path directory = getDirectory(eventType);
+		if (directory == null) {
+			return null;
+		}
+		String key = DigestUtils.md5DigestAsHex(eventUrl.getBytes(StandardCharsets.UTF_8));
+		CachedResponse cachedResponse = new CachedResponse(eventType, directory.resolve(key + ".json"), directory.resolve(key + ".properties"));
+		if (!Files.exists(cachedResponse.bodyFile) || !Files.exists(cachedResponse.metaFile)) {
+			return null;
+		}
+		try (InputStream inputStream = Files.newInputStream(cachedResponse.metaFile)) {
+			cachedResponse.meta.load(inputStream);
+			cachedResponse.body = Files.readAllBytes(cachedResponse.bodyFile);
+			return cachedResponse;
+		}
+		catch (IOException ioe) {
+			logger.info("IO exception reading cache = " + ioe);
+			return null;
+		}
+	}
+
+	public void put(String eventUrl, String eventType, ResponseEntity<byte[]> entity) {
+		Path directory = getDirectory(eventType);
+		if (directory == null || entity.getBody() == null) {
+			return;
+		}
+		String key = DigestUtils.md5DigestAsHex(eventUrl.getBytes(StandardCharsets.UTF_8));
+		CachedResponse cachedResponse = new CachedResponse(eventType, directory.resolve(key + ".json"), directory.resolve(key + ".properties"));
+		cachedResponse.meta.setProperty("url", eventUrl);
+		if (entity.getHeaders().getETag() != null) {
+			cachedResponse.meta.setProperty("etag", entity.getHeaders().getETag());
+		}
+		if (entity.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED) != null) {
+			cachedResponse.meta.setProperty("lastModified", entity.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED));
+		}
+		try {
+			Files.createDirectories(directory);
+			writeAtomic(cachedResponse.bodyFile, entity.getBody());
+			writeMeta(cachedResponse);
+		}
+		catch (IOException ioe) {
+			logger.info("IO exception writing cache = " + ioe);
+		}
+	}
+
+	//a 304 confirmed the cached body, restart its time to live
+	public void revalidate(CachedResponse cachedResponse) {
+		try {
+			writeMeta(cachedResponse);
+		}
+		catch (IOException ioe) {
+			logger.info("IO exception writing cache = " + ioe);
+		}
+	}
+
+	//ttl in seconds per event type, negative never expires, 0 always revalidates
+	public boolean isFresh(CachedResponse cachedResponse) {
+		int ttl = propertyService.getProperty_Int("xmlstats.cache.ttl." + cachedResponse.eventType, 0);
+		if (ttl < 0) {
+			return true;
+		}
+		long fetched = Long.parseLong(cachedResponse.meta.getProperty("fetched", "0"));
+		return System.currentTimeMillis() - fetched < TimeUnit.SECONDS.toMillis(ttl);
+	}
+
+	private Path getDirectory(String eventType) {
+		String cacheDirectory = propertyService.getProperty_String("xmlstats.cacheDirectory", "");
+		if (StringUtils.isEmpty(cacheDirectory)) {
+			return null;
+		}
+		return Paths.get(cacheDirectory, eventType);
+	}
+
+	private void writeMeta(CachedResponse cachedResponse) throws IOException {
+		cachedResponse.meta.setProperty("fetched", String.valueOf(System.currentTimeMillis()));
+		Path tempFile = Files.createTempFile(cachedResponse.metaFile.getParent(), "meta", ".tmp");
+		try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+			cachedResponse.meta.store(outputStream, null);
+		}
+		Files.move(tempFile, cachedResponse.metaFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private void writeAtomic(Path file, byte[] data) throws IOException {
+		Path tempFile = Files.createTempFile(file.getParent(), "body", ".tmp");
+		Files.write(tempFile, data);
+		Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	public static class CachedResponse {
+		private final String eventType;
+		private final Path bodyFile;
+		private final Path metaFile;
+		private final Properties meta = new Properties();
+		private byte[] body;
+
+		private CachedResponse(String eventType, Path bodyFile, Path metaFile) {
+			this.eventType = eventType;
+			this.bodyFile = bodyFile;
+			this.metaFile = metaFile;
+		}
+
+		public String getETag() {
+			return meta.getProperty("etag");
+		}
+
+		public String getLastModified() {
+			return meta.getProperty("lastModified");
+		}
+
+		public byte[] getBody() {
+			return body;
+		}
+	}
+}
@@ -1,41 +1,197 @@
 package com.rossotti.basketball.client.service;
 
+import com.rossotti.basketball.client.exception.CircuitOpenException;
+import com.rossotti.basketball.client.service.ResponseCacheService.CachedResponse;
+import com.rossotti.basketball.util.service.MetricService;
 import com.rossotti.basketball.util.service.exception.PropertyException;
 import com.rossotti.basketball.util.service.PropertyService;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 @Service
 public class RestClientService {
 
 	private final PropertyService propertyService;
+	private final MetricService metricService;
+	private final RateLimiterService rateLimiterService;
+	private final ResponseCacheService responseCacheService;
+	private final CircuitBreakerService circuitBreakerService;
+	private final CloseableHttpClient httpClient;
+	private final RestTemplate restTemplate;
+
+	private final Logger logger = LoggerFactory.getLogger(RestClientService.class);
 
 	@Autowired
-	public RestClientService(PropertyService propertyService) {
+	public RestClientService(PropertyService propertyService, MetricService metricService, RateLimiterService rateLimiterService, ResponseCacheService responseCacheService, CircuitBreakerService circuitBreakerService) {
 		this.propertyService = propertyService;
+		this.metricService = metricService;
+		this.rateLimiterService = rateLimiterService;
+		this.responseCacheService = responseCacheService;
+		this.circuitBreakerService = circuitBreakerService;
+		this.httpClient = createHttpClient();
+		this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+		//error statuses come back as responses so they can be retried and mapped to status codes
+		this.restTemplate.setErrorHandler(new DefaultResponseErrorHandler() {
+			@Override
+			public boolean hasError(ClientHttpResponse response) {
+				return false;
+			}
+		});
+	}
+
+	//one pooled keep-alive client for every xmlstats call, avoids a new handshake per request
+	private CloseableHttpClient createHttpClient() {
+		int poolSize = propertyService.getProperty_Int("xmlstats.http.poolSize", 4);
+		int connectTimeout = propertyService.getProperty_Int("xmlstats.http.connectTimeout", 5000);
+		int readTimeout = propertyService.getProperty_Int("xmlstats.http.readTimeout", 30000);
+
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(poolSize);
+		connectionManager.setDefaultMaxPerRoute(poolSize);
+		RequestConfig requestConfig = RequestConfig.custom()
+			.setConnectTimeout(connectTimeout)
+			.setConnectionRequestTimeout(connectTimeout)
+			.setSocketTimeout(readTimeout)
+			.build();
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(requestConfig)
+			.build();
 	}
 
-	private HttpEntity<String> getEntity() throws PropertyException {
+	private HttpEntity<String> getEntity(CachedResponse cachedResponse) throws PropertyException {
 		String accessToken = propertyService.getProperty_String("xmlstats.accessToken");
 		String userAgent = propertyService.getProperty_String("xmlstats.userAgent");
 
 		HttpHeaders headers = new HttpHeaders();
 		headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
 		headers.set(HttpHeaders.USER_AGENT, userAgent);
+		if (cachedResponse != null) {
+			if (cachedResponse.getETag() != null) {
+				headers.set(HttpHeaders.IF_NONE_MATCH, cachedResponse.getETag());
+			}
+			if (cachedResponse.getLastModified() != null) {
+				headers.set(HttpHeaders.IF_MODIFIED_SINCE, cachedResponse.getLastModified());
+			}
+		}
 		return new HttpEntity<>(headers);
 	}
 
-	private RestTemplate getRestTemplate() {
-		RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder();
-		restTemplateBuilder.additionalMessageConverters(new MappingJackson2HttpMessageConverter());
-		return restTemplateBuilder.build();
+	public ResponseEntity<byte[]> getJson(String eventUrl) {
+		String eventType = getEventType(eventUrl);
+		CachedResponse cachedResponse = responseCacheService.get(eventUrl, eventType);
+		if (cachedResponse != null && responseCacheService.isFresh(cachedResponse)) {
+			metricService.increment("http.cache.hit." + eventType);
+			return new ResponseEntity<>(cachedResponse.getBody(), HttpStatus.OK);
+		}
+		ResponseEntity<byte[]> entity = exchange(eventUrl, eventType, cachedResponse);
+		if (entity.getStatusCode() == HttpStatus.NOT_MODIFIED && cachedResponse != null) {
+			metricService.increment("http.cache.revalidated." + eventType);
+			responseCacheService.revalidate(cachedResponse);
+			return new ResponseEntity<>(cachedResponse.getBody(), HttpStatus.OK);
+		}
+		if (entity.getStatusCode() == HttpStatus.OK) {
+			responseCacheService.put(eventUrl, eventType, entity);
+		}
+		return entity;
 	}
 
-	public ResponseEntity<byte[]> getJson(String eventUrl) {
-		return getRestTemplate().exchange(eventUrl, HttpMethod.GET, getEntity(), byte[].class);
+	//retryable statuses and connection failures are retried with exponential backoff and full jitter
+	private ResponseEntity<byte[]> exchange(String eventUrl, String eventType, CachedResponse cachedResponse) {
+		int maxAttempts = propertyService.getProperty_Int("xmlstats.retry.maxAttempts", 3);
+		HttpEntity<String> requestEntity = getEntity(cachedResponse);
+		for (int attempt = 1; ; attempt++) {
+			if (!circuitBreakerService.allowRequest()) {
+				throw new CircuitOpenException(eventUrl);
+			}
+			metricService.recordTime("http.rateLimitWait", TimeUnit.MILLISECONDS.toNanos(rateLimiterService.acquire()));
+			long start = metricService.startTimer();
+			long retryAfterMillis = 0;
+			try {
+				ResponseEntity<byte[]> entity = restTemplate.exchange(eventUrl, HttpMethod.GET, requestEntity, byte[].class);
+				metricService.increment("http.status." + entity.getStatusCode().value());
+				if (!isRetryable(entity.getStatusCode())) {
+					circuitBreakerService.recordSuccess();
+					return entity;
+				}
+				circuitBreakerService.recordFailure();
+				if (attempt >= maxAttempts) {
+					return entity;
+				}
+				retryAfterMillis = getRetryAfterMillis(entity);
+			}
+			catch (ResourceAccessException e) {
+				metricService.increment("http.error");
+				circuitBreakerService.recordFailure();
+				if (attempt >= maxAttempts) {
+					throw e;
+				}
+			}
+			finally {
+				metricService.stopTimer("http.getJson." + eventType, start);
+			}
+			metricService.increment("http.retry");
+			backoff(attempt, retryAfterMillis);
+		}
+	}
+
+	private boolean isRetryable(HttpStatus status) {
+		return status == HttpStatus.TOO_MANY_REQUESTS || status == HttpStatus.INTERNAL_SERVER_ERROR || status == HttpStatus.BAD_GATEWAY ||
+			status == HttpStatus.SERVICE_UNAVAILABLE || status == HttpStatus.GATEWAY_TIMEOUT;
+	}
+
+	private long getRetryAfterMillis(ResponseEntity<byte[]> entity) {
+		String retryAfter = entity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+		if (retryAfter != null && retryAfter.matches("\\d+")) {
+			return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter));
+		}
+		return 0;
+	}
+
+	private void backoff(int attempt, long retryAfterMillis) {
+		long baseMillis = propertyService.getProperty_Int("xmlstats.retry.baseMillis", 1000);
+		long maxMillis = propertyService.getProperty_Int("xmlstats.retry.maxMillis", 30000);
+		long ceiling = Math.min(maxMillis, baseMillis << Math.min(attempt - 1, 20));
+		long delay = Math.max(ThreadLocalRandom.current().nextLong(ceiling + 1), retryAfterMillis);
+		metricService.recordTime("http.backoff", TimeUnit.MILLISECONDS.toNanos(delay));
+		try {
+			TimeUnit.MILLISECONDS.sleep(delay);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	//boxscore, roster or standings, taken from the url path
+	private String getEventType(String eventUrl) {
+		String path = eventUrl.substring(0, eventUrl.lastIndexOf('/'));
+		return path.substring(path.lastIndexOf('/') + 1);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		try {
+			httpClient.close();
+		}
+		catch (IOException e) {
+			logger.info("IO exception = " + e);
+		}
 	}
-}
\ No newline at end of file
+}
@@ -1,11 +1,12 @@
 package com.rossotti.basketball.client.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rossotti.basketball.client.exception.CircuitOpenException;
 import com.rossotti.basketball.util.service.exception.FileException;
 import com.rossotti.basketball.util.service.exception.PropertyException;
 import com.rossotti.basketball.client.dto.GameDTO;
 import com.rossotti.basketball.client.dto.RosterDTO;
 import com.rossotti.basketball.client.dto.StandingsDTO;
+import com.rossotti.basketball.util.service.ArchiveService;
 import com.rossotti.basketball.util.service.FileService;
 import com.rossotti.basketball.util.service.PropertyService;
 import com.rossotti.basketball.client.dto.StatusCodeDTO.StatusCode;
@@ -15,8 +16,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import java.io.IOException;
 import java.time.LocalDate;
 
@@ -26,15 +27,18 @@ public class RestStatsService {
 	private final PropertyService propertyService;
 	private final RestClientService restClientService;
 	private final FileService fileService;
+	private final JsonReaderService jsonReaderService;
+	private final ArchiveService archiveService;
 
 	private final Logger logger = LoggerFactory.getLogger(RestStatsService.class);
-	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
 
 	@Autowired
-	public RestStatsService(RestClientService restClientService, PropertyService propertyService, FileService fileService) {
+	public RestStatsService(RestClientService restClientService, PropertyService propertyService, FileService fileService, JsonReaderService jsonReaderService, ArchiveService archiveService) {
 		this.restClientService = restClientService;
 		this.propertyService = propertyService;
 		this.fileService = fileService;
+		this.jsonReaderService = jsonReaderService;
+		this.archiveService = archiveService;
 	}
 
 	public GameDTO retrieveBoxScore(String event, boolean persist) {
@@ -43,13 +47,12 @@ public class RestStatsService {
 			String baseUrl = propertyService.getProperty_Http("xmlstats.urlBoxScore");
 			String eventUrl = baseUrl + event + ".json";
 			ResponseEntity<byte[]> entity = restClientService.getJson(eventUrl);
-			if (persist) {
-				String fileName = propertyService.getProperty_Path("xmlstats.fileBoxScore") + "/" + event + ".json";
-				fileService.fileStreamWriter(fileName, entity.getBody());
-			}
 			StatusCode statusCode = getStatusCode(entity);
 			if (statusCode.equals(StatusCode.Found)) {
-				gameDTO = objectMapper.readValue(entity.getBody(), GameDTO.class);
+				gameDTO = jsonReaderService.read(entity.getBody(), GameDTO.class);
+				if (persist) {
+					persistJson("xmlstats.fileBoxScore", event, entity.getBody());
+				}
 			}
 			gameDTO.setStatusCode(statusCode);
 		}
@@ -65,6 +68,14 @@ public class RestStatsService {
 			logger.info("Property exception = " + pe);
 			gameDTO.setStatusCode(StatusCode.ServerException);
 		}
+		catch (CircuitOpenException coe) {
+			logger.info("Circuit open exception = " + coe);
+			gameDTO.setStatusCode(StatusCode.Deferred);
+		}
+		catch (RestClientException rce) {
+			logger.info("Rest client exception = " + rce);
+			gameDTO.setStatusCode(StatusCode.ServerException);
+		}
 		return gameDTO;
 	}
 
@@ -74,13 +85,12 @@ public class RestStatsService {
 			String baseUrl = propertyService.getProperty_Http("xmlstats.urlStandings");
 			String eventUrl = baseUrl + event + ".json";
 			ResponseEntity<byte[]> entity = restClientService.getJson(eventUrl);
-			if (persist) {
-				String fileName = propertyService.getProperty_Path("xmlstats.fileStandings") + "/" + event + ".json";
-				fileService.fileStreamWriter(fileName, entity.getBody());
-			}
 			StatusCode statusCode = getStatusCode(entity);
 			if (statusCode.equals(StatusCode.Found)) {
-				standingsDTO = objectMapper.readValue(entity.getBody(), StandingsDTO.class);
+				standingsDTO = jsonReaderService.read(entity.getBody(), StandingsDTO.class);
+				if (persist) {
+					persistJson("xmlstats.fileStandings", event, entity.getBody());
+				}
 
 			}
 			standingsDTO.setStatusCode(statusCode);
@@ -97,6 +107,14 @@ public class RestStatsService {
 			logger.info("Property exception = " + pe);
 			standingsDTO.setStatusCode(StatusCode.ServerException);
 		}
+		catch (CircuitOpenException coe) {
+			logger.info("Circuit open exception = " + coe);
+			standingsDTO.setStatusCode(StatusCode.Deferred);
+		}
+		catch (RestClientException rce) {
+			logger.info("Rest client exception = " + rce);
+			standingsDTO.setStatusCode(StatusCode.ServerException);
+		}
 		return standingsDTO;
 	}
 
@@ -109,10 +127,9 @@ public class RestStatsService {
 
 			StatusCode statusCode = getStatusCode(entity);
 			if (statusCode.equals(StatusCode.Found)) {
-				rosterDTO = objectMapper.readValue(entity.getBody(), RosterDTO.class);
+				rosterDTO = jsonReaderService.read(entity.getBody(), RosterDTO.class);
 				if (persist) {
-					String fileName = propertyService.getProperty_Path("xmlstats.fileRoster") + "/" + event + "-" + DateTimeConverter.getStringDateNaked(asOfDate) + ".json";
-					fileService.fileStreamWriter(fileName, entity.getBody());
+					persistJson("xmlstats.fileRoster", event + "-" + DateTimeConverter.getStringDateNaked(asOfDate), entity.getBody());
 				}
 			}
 			rosterDTO.setStatusCode(statusCode);
@@ -129,14 +146,37 @@ public class RestStatsService {
 			logger.info("Property exception = " + pe);
 			rosterDTO.setStatusCode(StatusCode.ServerException);
 		}
+		catch (CircuitOpenException coe) {
+			logger.info("Circuit open exception = " + coe);
+			rosterDTO.setStatusCode(StatusCode.Deferred);
+		}
+		catch (RestClientException rce) {
+			logger.info("Rest client exception = " + rce);
+			rosterDTO.setStatusCode(StatusCode.ServerException);
+		}
 		return rosterDTO;
 	}
 
+	//directories converted to an archive are appended to, others keep one file per event
+	private void persistJson(String pathProperty, String event, byte[] json) {
+		String path = propertyService.getProperty_Path(pathProperty);
+		if (archiveService.isArchive(path)) {
+			archiveService.append(path, event, json);
+		}
+		else {
+			fileService.fileStreamWriter(path + "/" + event + ".json", json);
+		}
+	}
+
 	private StatusCode getStatusCode(ResponseEntity entity) {
 		if (entity.getStatusCode() == HttpStatus.UNAUTHORIZED) {
 			logger.info("Invalid token supplied on client request - HTTP Status = " + entity.getStatusCode());
 			return StatusCode.NotFound;
 		}
+		else if (entity.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS || entity.getStatusCode().is5xxServerError()) {
+			logger.info("Client request failed after retries - HTTP Status = " + entity.getStatusCode());
+			return StatusCode.ServerException;
+		}
 		else if (entity.getStatusCode() != HttpStatus.OK) {
 			logger.info("Unable to retrieve client request - HTTP Status = " + entity.getStatusCode());
 			return StatusCode.NotFound;
@@ -1,14 +1,22 @@
 package com.rossotti.basketball.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.annotation.IntegrationComponentScan;
+import org.springframework.core.env.Environment;
 import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.ExecutorChannel;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.config.EnableIntegration;
 import org.springframework.integration.scheduling.PollerMetadata;
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableIntegration
@@ -16,6 +24,14 @@ import org.springframework.messaging.MessageChannel;
 @IntegrationComponentScan(basePackages = {"com.rossotti.basketball.integration"})
 
 public class IntegrationConfig {
+
+    private final Environment env;
+
+    @Autowired
+    public IntegrationConfig(Environment env) {
+        this.env = env;
+    }
+
     @Bean
     public MessageChannel inputChannel() {
         return new DirectChannel();
@@ -32,7 +48,10 @@ public class IntegrationConfig {
     }
 
     @Bean
-    public QueueChannel gameRouterChannel() {
+    public MessageChannel gameRouterChannel() {
+        if (scoringPoolSize() > 1) {
+            return new ExecutorChannel(gameScoringExecutor());
+        }
         return new QueueChannel(20);
     }
 
@@ -51,6 +70,11 @@ public class IntegrationConfig {
         return new DirectChannel();
     }
 
+    @Bean
+    public MessageChannel gameDeferredChannel() {
+        return new DirectChannel();
+    }
+
     @Bean
     public MessageChannel rosterLoadChannel() {
         return new DirectChannel();
@@ -71,6 +95,41 @@ public class IntegrationConfig {
         return new DirectChannel();
     }
 
+    @Bean
+    public ThreadPoolTaskExecutor gameScoringExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(scoringPoolSize());
+        executor.setMaxPoolSize(scoringPoolSize());
+        executor.setQueueCapacity(env.getProperty("accumulator.scoring.queueCapacity", Integer.class, 20));
+        //a full queue scores the game on the sending thread, which also slows the splitter down
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("gameScorer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor gatewayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(env.getProperty("accumulator.gateway.poolSize", Integer.class, 4));
+        executor.setMaxPoolSize(env.getProperty("accumulator.gateway.poolSize", Integer.class, 4));
+        executor.setQueueCapacity(env.getProperty("accumulator.gateway.queueCapacity", Integer.class, 20));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("gateway-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    //guards standings rebuilds by date only, so a date never shares a stripe with other locked work
+    @Bean
+    public LockRegistry standingsLockRegistry() {
+        return new DefaultLockRegistry();
+    }
+
+    private int scoringPoolSize() {
+        return env.getProperty("accumulator.scoring.poolSize", Integer.class, 1);
+    }
+
     @Bean(name = PollerMetadata.DEFAULT_POLLER)
     public PollerMetadata defaultPoller() {
         PollerMetadata pollerMetadata = new PollerMetadata();
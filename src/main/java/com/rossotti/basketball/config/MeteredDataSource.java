@@ -0,0 +1,32 @@
+package com.rossotti.basketball.config;
+
+import com.rossotti.basketball.util.service.MetricService;
+import org.apache.tomcat.jdbc.pool.DataSource;
+import org.apache.tomcat.jdbc.pool.PoolConfiguration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+//pool that reports how long callers wait for a connection and how busy it gets
+class MeteredDataSource extends DataSource {
+	private final MetricService metricService;
+
+	MeteredDataSource(PoolConfiguration poolProperties, MetricService metricService) {
+		super(poolProperties);
+		this.metricService = metricService;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		long start = metricService.startTimer();
+		try {
+			return super.getConnection();
+		}
+		finally {
+			metricService.stopTimer("db.connectionWait", start);
+			metricService.recordMax("db.pool.active", getActive());
+			metricService.recordMax("db.pool.idle", getIdle());
+			metricService.recordMax("db.pool.waitCount", getWaitCount());
+		}
+	}
+}
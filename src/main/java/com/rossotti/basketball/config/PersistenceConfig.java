@@ -1,7 +1,10 @@
 package com.rossotti.basketball.config;
 
+import com.rossotti.basketball.util.service.MetricService;
+import org.apache.tomcat.jdbc.pool.PoolProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.autoconfigure.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -11,6 +14,7 @@ import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.util.StringUtils;
 import javax.sql.DataSource;
 import java.util.Properties;
 
@@ -21,19 +25,76 @@ public class PersistenceConfig {
 
 	private final Environment env;
 
+	private final MetricService metricService;
+
+	private final Logger logger = LoggerFactory.getLogger(PersistenceConfig.class);
+
 	@Autowired
-	public PersistenceConfig(Environment env) {
+	public PersistenceConfig(Environment env, MetricService metricService) {
 		this.env = env;
+		this.metricService = metricService;
 	}
 
 	@Bean
 	DataSource dataSource() {
-		DataSourceBuilder dataSourceBuilder = DataSourceBuilder.create();
-		dataSourceBuilder.driverClassName(env.getRequiredProperty("db.driver"));
-		dataSourceBuilder.url(env.getRequiredProperty("db.url"));
-		dataSourceBuilder.username(env.getRequiredProperty("db.username"));
-		dataSourceBuilder.password(env.getRequiredProperty("db.password"));
-		return dataSourceBuilder.build();
+		PoolProperties poolProperties = new PoolProperties();
+		poolProperties.setDriverClassName(env.getRequiredProperty("db.driver"));
+		poolProperties.setUrl(env.getRequiredProperty("db.url"));
+		poolProperties.setUsername(env.getRequiredProperty("db.username"));
+		poolProperties.setPassword(env.getRequiredProperty("db.password"));
+
+		//defaults are the tomcat-jdbc pool sizes DataSourceBuilder used before the pool was configured here
+		int maxActive = env.getProperty("db.pool.maxActive", Integer.class, 100);
+		poolProperties.setMaxActive(maxActive);
+		poolProperties.setMaxIdle(maxActive);
+		poolProperties.setMinIdle(env.getProperty("db.pool.minIdle", Integer.class, 10));
+		poolProperties.setInitialSize(env.getProperty("db.pool.initialSize", Integer.class, 10));
+		poolProperties.setMaxWait(env.getProperty("db.pool.maxWait", Integer.class, 30000));
+		int threads = getDatabaseThreads();
+		if (maxActive < threads) {
+			logger.warn("db.pool.maxActive " + maxActive + " is below the " + threads + " threads that can hold a connection at once");
+		}
+
+		//validate idle connections at most every validationInterval ms, MySQL closes them after wait_timeout
+		poolProperties.setTestOnBorrow(true);
+		poolProperties.setTestWhileIdle(true);
+		poolProperties.setValidationQuery("SELECT 1");
+		poolProperties.setValidationInterval(env.getProperty("db.pool.validationInterval", Long.class, 30000L));
+		poolProperties.setTimeBetweenEvictionRunsMillis(env.getProperty("db.pool.evictionInterval", Integer.class, 60000));
+
+		//log the stack of a connection held longer than suspectTimeout seconds, without closing it
+		poolProperties.setSuspectTimeout(env.getProperty("db.pool.suspectTimeout", Integer.class, 300));
+		poolProperties.setLogAbandoned(true);
+		poolProperties.setJdbcInterceptors("ConnectionState;StatementFinalizer");
+		poolProperties.setJmxEnabled(true);
+
+		if (env.getRequiredProperty("db.driver").contains("mysql")) {
+			poolProperties.setDbProperties(getMySqlProperties());
+		}
+		return new MeteredDataSource(poolProperties, metricService);
+	}
+
+	//scoring, gateway and import threads, plus the main and daemon threads
+	private int getDatabaseThreads() {
+		return getThreads("accumulator.scoring.poolSize", 1) +
+			getThreads("accumulator.gateway.poolSize", 4) +
+			getThreads("accumulator.import.parallelism", Runtime.getRuntime().availableProcessors()) + 2;
+	}
+
+	private int getThreads(String propertyName, int defaultValue) {
+		String threads = env.getProperty(propertyName);
+		return StringUtils.isEmpty(threads) ? defaultValue : Integer.parseInt(threads.trim());
+	}
+
+	//driver side statement cache and multi-row inserts for batched statements, defaults are the driver's own
+	private Properties getMySqlProperties() {
+		Properties properties = new Properties();
+		properties.put("cachePrepStmts", env.getProperty("db.mysql.cachePrepStmts", "false"));
+		properties.put("prepStmtCacheSize", env.getProperty("db.mysql.prepStmtCacheSize", "25"));
+		properties.put("prepStmtCacheSqlLimit", env.getProperty("db.mysql.prepStmtCacheSqlLimit", "256"));
+		properties.put("useServerPrepStmts", env.getProperty("db.mysql.useServerPrepStmts", "false"));
+		properties.put("rewriteBatchedStatements", env.getProperty("db.mysql.rewriteBatchedStatements", "false"));
+		return properties;
 	}
 
 	@Bean
@@ -48,7 +109,25 @@ public class PersistenceConfig {
 		jpaProperties.put("hibernate.hbm2ddl.auto", env.getRequiredProperty("hibernate.hbm2ddl.auto"));
 		jpaProperties.put("hibernate.ejb.naming_strategy", env.getRequiredProperty("hibernate.ejb.naming_strategy"));
 		jpaProperties.put("hibernate.show_sql", env.getRequiredProperty("hibernate.show_sql"));
-		jpaProperties.put("hibernate.enable_lazy_load_no_trans", true);
+		//off by default, the game finders fetch what the scoring path reads
+		jpaProperties.put("hibernate.enable_lazy_load_no_trans", env.getProperty("hibernate.enable_lazy_load_no_trans", "false"));
+		jpaProperties.put("hibernate.jdbc.batch_size", env.getProperty("hibernate.jdbc.batch_size", "50"));
+		jpaProperties.put("hibernate.order_inserts", env.getProperty("hibernate.order_inserts", "true"));
+		jpaProperties.put("hibernate.order_updates", env.getProperty("hibernate.order_updates", "true"));
+		jpaProperties.put("hibernate.jdbc.batch_versioned_data", "true");
+
+		//opt-in second level cache for team, official and player, regions are sized in ehcache.xml
+		boolean secondLevelCache = env.getProperty("hibernate.cache.use_second_level_cache", Boolean.class, false);
+		jpaProperties.put("javax.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+		jpaProperties.put("hibernate.cache.use_second_level_cache", String.valueOf(secondLevelCache));
+		jpaProperties.put("hibernate.cache.use_query_cache", String.valueOf(secondLevelCache && env.getProperty("hibernate.cache.use_query_cache", Boolean.class, false)));
+		if (secondLevelCache) {
+			jpaProperties.put("hibernate.cache.region.factory_class", "org.hibernate.cache.ehcache.EhCacheRegionFactory");
+			jpaProperties.put("net.sf.ehcache.configurationResourceName", env.getProperty("hibernate.cache.configuration", "/ehcache.xml"));
+			//inserting a box score, roster player or game official evicts the cached collection it belongs to
+			jpaProperties.put("hibernate.cache.auto_evict_collection_cache", "true");
+		}
+		jpaProperties.put("hibernate.generate_statistics", env.getProperty("hibernate.generate_statistics", "false"));
 
 		entityManagerFactoryBean.setJpaProperties(jpaProperties);
 		return entityManagerFactoryBean;
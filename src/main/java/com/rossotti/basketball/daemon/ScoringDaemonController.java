@@ -0,0 +1,37 @@
+package com.rossotti.basketball.daemon;
+
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.function.DateTimeConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnProperty(name = "accumulator.daemon.enabled", havingValue = "true")
+public class ScoringDaemonController {
+	private final ScoringDaemonService scoringDaemonService;
+
+	@Autowired
+	public ScoringDaemonController(ScoringDaemonService scoringDaemonService) {
+		this.scoringDaemonService = scoringDaemonService;
+	}
+
+	@RequestMapping(value = "/daemon/score", method = RequestMethod.POST)
+	public ResponseEntity<String> scoreGames(@RequestParam String gameDate, @RequestParam(defaultValue = "") String gameTeam) {
+		if (!DateTimeConverter.isDate(gameDate)) {
+			return new ResponseEntity<>("Invalid gameDate argument", HttpStatus.BAD_REQUEST);
+		}
+		List<Game> games = scoringDaemonService.scoreGames(gameDate, gameTeam);
+		if (games == null) {
+			return new ResponseEntity<>("Run in progress", HttpStatus.CONFLICT);
+		}
+		return new ResponseEntity<>("Processed " + games.size() + " games", HttpStatus.OK);
+	}
+}
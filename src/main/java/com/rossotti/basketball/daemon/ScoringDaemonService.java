@@ -0,0 +1,87 @@
+package com.rossotti.basketball.daemon;
+
+import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.integration.GatewayService;
+import com.rossotti.basketball.integration.ServiceProperties;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.function.DateTimeConverter;
+import com.rossotti.basketball.util.service.CacheStatisticsService;
+import com.rossotti.basketball.util.service.MetricService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@ConditionalOnProperty(name = "accumulator.daemon.enabled", havingValue = "true")
+public class ScoringDaemonService {
+	private final GatewayService gatewayService;
+	private final GameAppService gameAppService;
+	private final MetricService metricService;
+	private final CacheStatisticsService cacheStatisticsService;
+	private final Environment env;
+
+	//scheduled polls and on-demand triggers share one flow, never run two at once
+	private final ReentrantLock runLock = new ReentrantLock();
+
+	private final Logger logger = LoggerFactory.getLogger(ScoringDaemonService.class);
+
+	@Autowired
+	public ScoringDaemonService(GatewayService gatewayService, GameAppService gameAppService, MetricService metricService, CacheStatisticsService cacheStatisticsService, Environment env) {
+		this.gatewayService = gatewayService;
+		this.gameAppService = gameAppService;
+		this.metricService = metricService;
+		this.cacheStatisticsService = cacheStatisticsService;
+		this.env = env;
+	}
+
+	@Scheduled(initialDelayString = "${accumulator.daemon.pollInterval:300000}", fixedDelayString = "${accumulator.daemon.pollInterval:300000}")
+	public void pollGames() {
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("US/Eastern"));
+		LocalDateTime toDateTime = now.minusMinutes(env.getProperty("accumulator.daemon.delayMinutes", Integer.class, 180));
+		LocalDateTime fromDateTime = DateTimeConverter.getLocalDateTimeMin(now.toLocalDate().minusDays(env.getProperty("accumulator.daemon.lookbackDays", Integer.class, 3)));
+		List<LocalDateTime> gameDateTimes = gameAppService.findScheduledByFromDateTimeAndToDateTime(fromDateTime, toDateTime);
+		Set<LocalDate> gameDates = new LinkedHashSet<>();
+		for (LocalDateTime gameDateTime : gameDateTimes) {
+			gameDates.add(gameDateTime.toLocalDate());
+		}
+		logger.debug("pollGames: " + gameDateTimes.size() + " scheduled games due on " + gameDates.size() + " dates");
+		for (LocalDate gameDate : gameDates) {
+			scoreGames(DateTimeConverter.getStringDate(gameDate), "");
+		}
+	}
+
+	//returns null when a run is already in progress
+	public List<Game> scoreGames(String gameDate, String gameTeam) {
+		if (!runLock.tryLock()) {
+			logger.info("scoreGames: run in progress, skip gameDate " + gameDate);
+			return null;
+		}
+		try {
+			ServiceProperties serviceProperties = new ServiceProperties();
+			serviceProperties.setGameDate(gameDate);
+			serviceProperties.setGameTeam(gameTeam);
+			logger.info("begin daemon run for gameDate = " + gameDate + (gameTeam.isEmpty() ? "" : " and gameTeam = " + gameTeam));
+			List<Game> games = gatewayService.processGames(serviceProperties);
+			logger.info("end daemon run, processed " + (games == null ? 0 : games.size()) + " games");
+			cacheStatisticsService.publish();
+			metricService.logMetrics();
+			metricService.reset();
+			return games;
+		}
+		finally {
+			runLock.unlock();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.util.service.MetricService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.config.GlobalChannelInterceptor;
+import org.springframework.integration.support.context.NamedComponent;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ChannelInterceptorAdapter;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+@Component
+@GlobalChannelInterceptor(patterns = "*")
+public class ChannelMetricsInterceptor extends ChannelInterceptorAdapter implements ExecutorChannelInterceptor {
+	private final MetricService metricService;
+
+	//nested sends on direct channels, so each channel is charged only for its own handler
+	private final ThreadLocal<Deque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+	@Autowired
+	public ChannelMetricsInterceptor(MetricService metricService) {
+		this.metricService = metricService;
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		metricService.increment("send." + getName(channel));
+		frames.get().push(new Frame());
+		return message;
+	}
+
+	@Override
+	public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+		if (channel instanceof QueueChannel) {
+			metricService.recordMax("queueDepth." + getName(channel), ((QueueChannel) channel).getQueueSize());
+		}
+	}
+
+	@Override
+	public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+		if (ex != null) {
+			metricService.increment("sendError." + getName(channel));
+		}
+		//only a direct channel runs its handler inside send, the others just hand the message off
+		endFrame((channel instanceof DirectChannel ? "handle." : "enqueue.") + getName(channel));
+	}
+
+	@Override
+	public Message<?> postReceive(Message<?> message, MessageChannel channel) {
+		if (message != null) {
+			metricService.recordTime("queueWait." + getName(channel), (System.currentTimeMillis() - message.getHeaders().getTimestamp()) * 1000000L);
+		}
+		return message;
+	}
+
+	@Override
+	public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+		frames.get().push(new Frame());
+		return message;
+	}
+
+	@Override
+	public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+		endFrame("handle." + getName(channel));
+	}
+
+	private void endFrame(String name) {
+		Deque<Frame> deque = frames.get();
+		Frame frame = deque.poll();
+		if (frame == null) {
+			return;
+		}
+		long elapsed = System.nanoTime() - frame.start;
+		metricService.recordTime(name, elapsed - frame.childNanos);
+		Frame parent = deque.peek();
+		if (parent != null) {
+			parent.childNanos += elapsed;
+		}
+	}
+
+	private String getName(MessageChannel channel) {
+		if (channel instanceof NamedComponent) {
+			return ((NamedComponent) channel).getComponentName();
+		}
+		return channel.toString();
+	}
+
+	private static class Frame {
+		private final long start = System.nanoTime();
+		private long childNanos;
+	}
+}
@@ -0,0 +1,29 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.business.model.GameBusiness;
+import com.rossotti.basketball.util.service.MetricService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.annotation.ServiceActivator;
+
+@Configuration
+public class DeferredGameActivator {
+	private final MetricService metricService;
+	private final Logger logger = LoggerFactory.getLogger(DeferredGameActivator.class);
+
+	@Autowired
+	public DeferredGameActivator(MetricService metricService) {
+		this.metricService = metricService;
+	}
+
+	//the game stays scheduled and its run checkpoint stays open, a resumed run or the daemon scores it once the api recovers
+	@ServiceActivator(inputChannel = "gameDeferredChannel", outputChannel = "gameAggregatorChannel")
+	public GameBusiness deferGame(GameBusiness gameBusiness) {
+		metricService.increment("game.deferred");
+		logger.info("gameDeferred: " + gameBusiness.getGame().getBoxScoreAway().getTeam().getAbbr() + " at " +
+			gameBusiness.getGame().getBoxScoreHome().getTeam().getAbbr() + ": route to gameAggregatorChannel");
+		return gameBusiness;
+	}
+}
@@ -2,12 +2,22 @@ package com.rossotti.basketball.integration;
 
 import com.rossotti.basketball.business.model.GameBusiness;
 import com.rossotti.basketball.business.model.StatusCodeBusiness.StatusCode;
+import com.rossotti.basketball.business.service.GameBusService;
 import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.function.DateTimeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.integration.annotation.Aggregator;
+import org.springframework.core.env.Environment;
+import org.springframework.expression.common.LiteralExpression;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.aggregator.AggregatingMessageHandler;
+import org.springframework.integration.aggregator.MethodInvokingMessageGroupProcessor;
+import org.springframework.integration.annotation.ServiceActivator;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -15,31 +25,66 @@ import java.util.List;
 
 @Configuration
 public class GameAggregator {
+	private final Environment env;
+	private final GameBusService gameBusService;
 	private final Logger logger = LoggerFactory.getLogger(GameAggregator.class);
 
-	@Aggregator(inputChannel = "gameAggregatorChannel", outputChannel = "standingsRouterChannel")
+	@Autowired
+	public GameAggregator(Environment env, GameBusService gameBusService) {
+		this.env = env;
+		this.gameBusService = gameBusService;
+	}
+
+	@Bean
+	@ServiceActivator(inputChannel = "gameAggregatorChannel")
+	public MessageHandler gameAggregatorHandler() {
+		AggregatingMessageHandler handler = new AggregatingMessageHandler(new MethodInvokingMessageGroupProcessor(this, "aggregate"));
+		handler.setCorrelationStrategy(new GameCorrelationStrategy());
+		handler.setReleaseStrategy(new GameReleaseStrategy());
+		handler.setOutputChannelName("standingsRouterChannel");
+		long groupTimeout = env.getProperty("accumulator.aggregator.groupTimeout", Long.class, 0L);
+		if (groupTimeout > 0) {
+			//release whatever has been scored when a game is stuck, late games are discarded
+			handler.setGroupTimeoutExpression(new LiteralExpression(String.valueOf(groupTimeout)));
+			handler.setSendPartialResultOnExpiry(true);
+		}
+		return handler;
+	}
+
 	public List<Game> aggregate(Collection<Message<?>> games) {
 		logger.debug("begin gameAggregator");
+		int sequenceSize = games.isEmpty() ? 0 : new IntegrationMessageHeaderAccessor(games.iterator().next()).getSequenceSize();
 		List<Game> gameList = new ArrayList<>();
+		for (int i = 0; i < sequenceSize; i++) {
+			gameList.add(null);
+		}
 		for (Message<?> msg : games) {
-			logger.debug("msg.correlationId = " + msg.getHeaders().get("correlationId"));
-			logger.debug("msg.sequenceNumber = " + msg.getHeaders().get("sequenceNumber"));
-			logger.debug("msg.sequenceSize = " + msg.getHeaders().get("sequenceSize"));			
+			IntegrationMessageHeaderAccessor headers = new IntegrationMessageHeaderAccessor(msg);
+			logger.debug("msg.correlationId = " + headers.getCorrelationId());
+			logger.debug("msg.sequenceNumber = " + headers.getSequenceNumber());
+			logger.debug("msg.sequenceSize = " + headers.getSequenceSize());
 			GameBusiness gameBusiness = (GameBusiness)msg.getPayload();
 			if (null == gameBusiness.getStatusCode() || gameBusiness.getStatusCode().equals(StatusCode.ServerError) || gameBusiness.getStatusCode().equals(StatusCode.ClientError)) {
-				gameList.add(null);
+				gameList.set(headers.getSequenceNumber() - 1, null);
 			}
 			else {
-				logger.info(msg.getHeaders().get("sequenceNumber") + " of " +
-					msg.getHeaders().get("sequenceSize") + "  " +
+				logger.info(headers.getSequenceNumber() + " of " +
+					headers.getSequenceSize() + "  " +
 					gameBusiness.getGame().getBoxScoreAway().getTeam().getAbbr() + " at " +
 					gameBusiness.getGame().getBoxScoreHome().getTeam().getAbbr() + ": " +
 					gameBusiness.getStatusCode()
 				);
-				gameList.add(gameBusiness.getGame());
+				gameList.set(headers.getSequenceNumber() - 1, gameBusiness.getGame());
 			}
 		}
+		if (games.size() < sequenceSize) {
+			logger.info("partial release: " + games.size() + " of " + sequenceSize + " games scored, missing games flagged null");
+		}
+		if (!games.isEmpty()) {
+			GameBusiness gameBusiness = (GameBusiness)games.iterator().next().getPayload();
+			gameBusService.releaseBoxScores(DateTimeConverter.getLocalDate(gameBusiness.getGame().getGameDateTime()));
+		}
 		logger.debug("end gameAggregator");
 		return gameList;
 	}
-}
\ No newline at end of file
+}
@@ -4,15 +4,14 @@ import org.springframework.integration.aggregator.CorrelationStrategy;
 import org.springframework.messaging.Message;
 
 class GameCorrelationStrategy implements CorrelationStrategy {
-	// key put into header and used by correlation strategy to link several Message<Product> to appropriate oneMessage<Order>
-	private static final String CORRELATION_KEY = "orderId";
-	// key of parameter meaning if split element is the last element needed to aggregate
-	public static final String LAST_KEY = "isLast";
-//	@Override
+	// key put into header by the game splitter, groups every game of a run regardless of tip-off time
+	static final String RUN_KEY = "runKey";
+
+	@Override
 	public Object getCorrelationKey(Message<?> message) {
-		if (!message.getHeaders().containsKey(CORRELATION_KEY)) {
-			throw new IllegalStateException("Message splitted by order splitter must contain orderId header. Present headers " + "were: "+ message.getHeaders());
+		if (!message.getHeaders().containsKey(RUN_KEY)) {
+			throw new IllegalStateException("Message split by game splitter must contain runKey header. Present headers " + "were: "+ message.getHeaders());
 		}
-		return message.getHeaders().get(CORRELATION_KEY);
+		return message.getHeaders().get(RUN_KEY);
 	}
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.rossotti.basketball.integration;
 
 import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.app.service.RunCheckpointAppService;
 import com.rossotti.basketball.jpa.model.Game;
 import java.time.LocalDate;
 import com.rossotti.basketball.util.function.DateTimeConverter;
@@ -15,11 +16,13 @@ import java.util.List;
 @Configuration
 public class GameFinderActivator {
 	private final GameAppService gameAppService;
+	private final RunCheckpointAppService runCheckpointAppService;
 	private final Logger logger = LoggerFactory.getLogger(GameFinderActivator.class);
 
 	@Autowired
-	public GameFinderActivator(GameAppService gameAppService) {
+	public GameFinderActivator(GameAppService gameAppService, RunCheckpointAppService runCheckpointAppService) {
 		this.gameAppService = gameAppService;
+		this.runCheckpointAppService = runCheckpointAppService;
 	}
 
 	@ServiceActivator(inputChannel = "inputChannel", outputChannel = "gameFinderChannel")
@@ -29,6 +32,9 @@ public class GameFinderActivator {
 		if (properties.getGameTeam() == null || properties.getGameTeam().isEmpty()) {
 			games = gameAppService.findByAsOfDate(gameDate);
 			logger.info("findByDate: " + DateTimeConverter.getStringDate(gameDate));
+			if (games.size() > 0) {
+				runCheckpointAppService.startRun(gameDate, games.size());
+			}
 		}
 		else {
 			Game game = gameAppService.findByTeamKeyAsOfDate(properties.getGameTeam(), gameDate);
@@ -1,8 +1,10 @@
 package com.rossotti.basketball.integration;
 
 import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.service.MetricService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.annotation.Router;
 
@@ -10,17 +12,23 @@ import java.util.List;
 
 @Configuration
 public class GameFinderRouter {
+	private final MetricService metricService;
 	private final Logger logger = LoggerFactory.getLogger(GameFinderRouter.class);
 
+	@Autowired
+	public GameFinderRouter(MetricService metricService) {
+		this.metricService = metricService;
+	}
+
 	@Router(inputChannel = "gameFinderChannel")
 	public String routeGame(List<Game> games) {
 		if (games.size() > 0) {
 			logger.info("gameCount: " + games.size() + ": route to gameSplitterChannel");
-			return "gameSplitterChannel";
+			return metricService.route("gameFinderRouter", "gameSplitterChannel");
 		}
 		else {
 			logger.info("gameCount: " + games.size() + ": route to outputChannel");			
-			return "outputChannel";
+			return metricService.route("gameFinderRouter", "outputChannel");
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.app.service.RunCheckpointAppService;
+import com.rossotti.basketball.business.service.BoxScorePrefetchService;
+import com.rossotti.basketball.business.service.GameBusService;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.function.DateTimeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class GameRangeService {
+	private final GatewayService gatewayService;
+
+	private final GameAppService gameAppService;
+
+	private final GameBusService gameBusService;
+
+	private final BoxScorePrefetchService boxScorePrefetchService;
+
+	private final RunCheckpointAppService runCheckpointAppService;
+
+	private final Logger logger = LoggerFactory.getLogger(GameRangeService.class);
+
+	@Autowired
+	public GameRangeService(GatewayService gatewayService, GameAppService gameAppService, GameBusService gameBusService, BoxScorePrefetchService boxScorePrefetchService, RunCheckpointAppService runCheckpointAppService) {
+		this.gatewayService = gatewayService;
+		this.gameAppService = gameAppService;
+		this.gameBusService = gameBusService;
+		this.boxScorePrefetchService = boxScorePrefetchService;
+		this.runCheckpointAppService = runCheckpointAppService;
+	}
+
+	public List<Game> processGames(ServiceProperties properties) {
+		List<Game> processedGames = new ArrayList<>();
+		List<LocalDate> gameDates = findGameDates(properties);
+		logger.info("processGameRange: " + properties.getFromDate() + " to " + properties.getToDate() + " gameDates: " + gameDates.size());
+		try {
+			for (int i = 0; i < gameDates.size(); i++) {
+				if (i + 1 < gameDates.size()) {
+					//fetch next date's box scores while the current date is scored and persisted
+					gameBusService.prefetchBoxScores(findGames(gameDates.get(i + 1), properties.getGameTeam()));
+				}
+				ServiceProperties dateProperties = new ServiceProperties();
+				dateProperties.setGameDate(DateTimeConverter.getStringDate(gameDates.get(i)));
+				dateProperties.setGameTeam(properties.getGameTeam());
+				List<Game> games = gatewayService.processGames(dateProperties);
+				if (games != null) {
+					processedGames.addAll(games);
+				}
+			}
+		}
+		finally {
+			//a failed run leaves the next date prefetched, only this run's dates are released
+			for (LocalDate gameDate : gameDates) {
+				boxScorePrefetchService.release(gameDate);
+			}
+		}
+		return processedGames;
+	}
+
+	private List<LocalDate> findGameDates(ServiceProperties properties) {
+		List<LocalDate> gameDates = new ArrayList<>();
+		LocalDate toDate = DateTimeConverter.getLocalDate(properties.getToDate());
+		for (LocalDate gameDate = DateTimeConverter.getLocalDate(properties.getFromDate()); !gameDate.isAfter(toDate); gameDate = gameDate.plusDays(1)) {
+			if (properties.isResume() && runCheckpointAppService.isRunCompleted(gameDate)) {
+				logger.info("resume: skip completed gameDate " + DateTimeConverter.getStringDate(gameDate));
+			}
+			else if (isTeamRange(properties.getGameTeam())) {
+				if (gameAppService.findByTeamKeyAsOfDate(properties.getGameTeam(), gameDate).isFound()) {
+					gameDates.add(gameDate);
+				}
+			}
+			else if (gameAppService.findCountByAsOfDate(gameDate) > 0) {
+				gameDates.add(gameDate);
+			}
+		}
+		return gameDates;
+	}
+
+	private List<Game> findGames(LocalDate gameDate, String gameTeam) {
+		List<Game> games = new ArrayList<>();
+		if (isTeamRange(gameTeam)) {
+			Game game = gameAppService.findByTeamKeyAsOfDate(gameTeam, gameDate);
+			if (game.isFound()) {
+				games.add(game);
+			}
+		}
+		else {
+			games = gameAppService.findByAsOfDate(gameDate);
+		}
+		return games;
+	}
+
+	private boolean isTeamRange(String gameTeam) {
+		return gameTeam != null && !gameTeam.isEmpty();
+	}
+}
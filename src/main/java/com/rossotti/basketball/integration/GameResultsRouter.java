@@ -1,15 +1,23 @@
 package com.rossotti.basketball.integration;
 
 import com.rossotti.basketball.business.model.GameBusiness;
+import com.rossotti.basketball.util.service.MetricService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.annotation.Router;
 
 @Configuration
 public class GameResultsRouter {
+	private final MetricService metricService;
 	private final Logger logger = LoggerFactory.getLogger(GameResultsRouter.class);
 
+	@Autowired
+	public GameResultsRouter(MetricService metricService) {
+		this.metricService = metricService;
+	}
+
 	@Router(inputChannel = "gameResultsChannel")
 	public String routeGame(GameBusiness gameBusiness) {
 		if (gameBusiness.isRosterUpdate()) {
@@ -18,7 +26,15 @@ public class GameResultsRouter {
 				gameBusiness.getStatusCode() +
 				": route to gameRouterChannel"
 			);
-			return "gameRouterChannel";
+			return metricService.route("gameResultsRouter", "gameRouterChannel");
+		}
+		else if (gameBusiness.isDeferred()) {
+			logger.info("Game " + gameBusiness.getGame().getBoxScoreAway().getTeam().getAbbr() + " at " +
+				gameBusiness.getGame().getBoxScoreHome().getTeam().getAbbr() + " " +
+				gameBusiness.getStatusCode() +
+				": route to gameDeferredChannel"
+			);
+			return metricService.route("gameResultsRouter", "gameDeferredChannel");
 		}
 		else {
 			logger.info("Game " + gameBusiness.getGame().getBoxScoreAway().getTeam().getAbbr() + " at " +
@@ -26,7 +42,7 @@ public class GameResultsRouter {
 				gameBusiness.getStatusCode() +
 				": route to gameAggregatorChannel"
 			);			
-			return "gameAggregatorChannel";
+			return metricService.route("gameResultsRouter", "gameAggregatorChannel");
 		}
 	}
 }
\ No newline at end of file
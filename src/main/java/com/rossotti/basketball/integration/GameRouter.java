@@ -1,15 +1,23 @@
 package com.rossotti.basketball.integration;
 
 import com.rossotti.basketball.business.model.GameBusiness;
+import com.rossotti.basketball.util.service.MetricService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.annotation.Router;
 
 @Configuration
 public class GameRouter {
+	private final MetricService metricService;
 	private final Logger logger = LoggerFactory.getLogger(GameRouter.class);
 
+	@Autowired
+	public GameRouter(MetricService metricService) {
+		this.metricService = metricService;
+	}
+
 	@Router(inputChannel = "gameRouterChannel")
 	public String routeGame(GameBusiness gameBusiness) {
 		if(gameBusiness.isInitial() || gameBusiness.isRosterComplete()) {
@@ -18,7 +26,15 @@ public class GameRouter {
 					gameBusiness.getStatusCode() +
 					": route to gameScoreChannel"
 			);
-			return "gameScoreChannel";
+			return metricService.route("gameRouter", "gameScoreChannel");
+		}
+		else if (gameBusiness.isDeferred()) {
+			logger.info("GameBusiness " + gameBusiness.getGame().getBoxScoreAway().getTeam().getAbbr() + " at " +
+				gameBusiness.getGame().getBoxScoreHome().getTeam().getAbbr() + " " +
+				gameBusiness.getStatusCode() +
+				": route to gameDeferredChannel"
+			);
+			return metricService.route("gameRouter", "gameDeferredChannel");
 		}
 		else if (gameBusiness.isRosterUpdate()) {
 			logger.info("GameBusiness " + gameBusiness.getGame().getBoxScoreAway().getTeam().getAbbr() + " at " +
@@ -26,7 +42,7 @@ public class GameRouter {
 				gameBusiness.getStatusCode() +
 				": route to rosterLoadChannel"
 			);
-			return "rosterLoadChannel";
+			return metricService.route("gameRouter", "rosterLoadChannel");
 		}
 		else {
 			logger.info("GameBusiness " + gameBusiness.getGame().getBoxScoreAway().getTeam().getAbbr() + " at " +
@@ -34,7 +50,7 @@ public class GameRouter {
 				gameBusiness.getStatusCode() +
 				": route to gameAggregatorChannel"
 			);
-			return "gameAggregatorChannel";
+			return metricService.route("gameRouter", "gameAggregatorChannel");
 		}
 	}
 }
\ No newline at end of file
@@ -2,9 +2,12 @@ package com.rossotti.basketball.integration;
 
 import com.rossotti.basketball.business.model.GameBusiness;
 import com.rossotti.basketball.business.model.StatusCodeBusiness;
+import com.rossotti.basketball.business.service.GameBusService;
 import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.function.DateTimeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.annotation.Splitter;
 import org.springframework.integration.support.MessageBuilder;
@@ -13,22 +16,34 @@ import java.util.*;
 
 @Configuration
 public class GameSplitter {
+	private final GameBusService gameBusService;
 	private final Logger logger = LoggerFactory.getLogger(GameSplitter.class);
 
-	@Splitter(inputChannel = "gameSplitterChannel", outputChannel = "gameRouterChannel")
-	public List<Message<?>> splitMessage(List<Game> games) {
+	@Autowired
+	public GameSplitter(GameBusService gameBusService) {
+		this.gameBusService = gameBusService;
+	}
+
+	@Splitter(inputChannel = "gameSplitterChannel", outputChannel = "gameRouterChannel", applySequence = "false")
+	public List<Message<?>> splitMessage(Message<List<Game>> message) {
+		List<Game> games = message.getPayload();
 		List<Message<?>> messages = new ArrayList<>();
+		//one aggregation group per run, regardless of tip-off times
+		String runKey = DateTimeConverter.getStringDate(games.get(0).getGameDateTime()) + "/" + message.getHeaders().getId();
 		for (int i = 0; i < games.size(); i++) {
 			Game game = games.get(i);
 			Message<?> msg = MessageBuilder
 				.withPayload(new GameBusiness(game, StatusCodeBusiness.StatusCode.Initial))
-				.setCorrelationId(game.getGameDateTime())
-				.setSequenceNumber(i)
+				.setHeader(GameCorrelationStrategy.RUN_KEY, runKey)
+				.setCorrelationId(runKey)
+				.setSequenceNumber(i + 1)
 				.setSequenceSize(games.size())
 				.build();
 			messages.add(msg);
 		}
-		logger.info("gameCount: " + games.size() + ": route to gameRouterChannel");
+		//box scores are fetched ahead of the scorer so the api and the database work overlap
+		gameBusService.prefetchBoxScoresFirst(games);
+		logger.info("gameCount: " + games.size() + " runKey: " + runKey + ": route to gameRouterChannel");
 		return messages;
 	}
-}
\ No newline at end of file
+}
@@ -3,8 +3,12 @@ package com.rossotti.basketball.integration;
 import com.rossotti.basketball.jpa.model.Game;
 import org.springframework.integration.annotation.MessagingGateway;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-@MessagingGateway(defaultRequestChannel = "inputChannel", defaultReplyChannel = "outputChannel")
+@MessagingGateway(defaultRequestChannel = "inputChannel", defaultReplyChannel = "outputChannel", asyncExecutor = "gatewayExecutor")
 public interface GatewayService {
 	List<Game> processGames(ServiceProperties serviceProperties);
-}
\ No newline at end of file
+
+	//runs the flow on gatewayExecutor, each call gets its own reply channel so concurrent dates or teams are not mixed up
+	CompletableFuture<List<Game>> processGamesAsync(ServiceProperties serviceProperties);
+}
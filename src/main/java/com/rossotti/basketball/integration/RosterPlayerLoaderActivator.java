@@ -20,6 +20,7 @@ public class RosterPlayerLoaderActivator {
 
 	@ServiceActivator(inputChannel = "rosterLoadChannel", outputChannel = "gameRouterChannel")
 	public GameBusiness loadRoster(GameBusiness gameBusiness) {
+		//games scored concurrently share one load of the same team roster, see RosterPlayerBusService.loadRoster
 		gameBusiness = rosterPlayerBusService.loadRoster(gameBusiness);
 		logger.info("rosterPlayerLoader: " + gameBusiness.getStatusCode() + " : route to gameRouterChannel");
 		return gameBusiness;
@@ -3,6 +3,9 @@ package com.rossotti.basketball.integration;
 public class ServiceProperties {
 	private String gameDate;
 	private String gameTeam;
+	private String fromDate;
+	private String toDate;
+	private boolean resume;
 	
 	public String getGameDate() {
 		return gameDate;
@@ -16,4 +19,25 @@ public class ServiceProperties {
 	public void setGameTeam(String gameTeam) {
 		this.gameTeam = gameTeam;
 	}
+	public String getFromDate() {
+		return fromDate;
+	}
+	public void setFromDate(String fromDate) {
+		this.fromDate = fromDate;
+	}
+	public String getToDate() {
+		return toDate;
+	}
+	public void setToDate(String toDate) {
+		this.toDate = toDate;
+	}
+	public boolean isDateRange() {
+		return fromDate != null && toDate != null;
+	}
+	public boolean isResume() {
+		return resume;
+	}
+	public void setResume(boolean resume) {
+		this.resume = resume;
+	}
 }
\ No newline at end of file
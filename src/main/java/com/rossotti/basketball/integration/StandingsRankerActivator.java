@@ -1,5 +1,6 @@
 package com.rossotti.basketball.integration;
 
+import com.rossotti.basketball.app.service.RunCheckpointAppService;
 import com.rossotti.basketball.business.model.StandingsBusiness;
 import com.rossotti.basketball.business.service.StandingBusService;
 import com.rossotti.basketball.jpa.model.Game;
@@ -9,26 +10,45 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.annotation.ServiceActivator;
+import org.springframework.integration.support.locks.LockRegistry;
 
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 
 @Configuration
 public class StandingsRankerActivator {
 	private final StandingBusService standingBusService;
+	private final RunCheckpointAppService runCheckpointAppService;
+	private final LockRegistry standingsLockRegistry;
 	private final Logger logger = LoggerFactory.getLogger(StandingsRankerActivator.class);
 
 	@Autowired
-	public StandingsRankerActivator(StandingBusService standingBusService) {
+	public StandingsRankerActivator(StandingBusService standingBusService, RunCheckpointAppService runCheckpointAppService, LockRegistry standingsLockRegistry) {
 		this.standingBusService = standingBusService;
+		this.runCheckpointAppService = runCheckpointAppService;
+		this.standingsLockRegistry = standingsLockRegistry;
 	}
 
 	@ServiceActivator(inputChannel = "standingsRankChannel", outputChannel = "outputChannel")
 	public List<Game> rankStandings(List<Game> games) {
-		StandingsBusiness standingBusiness = standingBusService.rankStandings(DateTimeConverter.getStringDate(games.get(0).getGameDateTime()));
+		String asOfDate = DateTimeConverter.getStringDate(games.get(0).getGameDateTime());
+		//concurrent runs for the same date rebuild the same standings rows
+		Lock lock = standingsLockRegistry.obtain(asOfDate);
+		StandingsBusiness standingBusiness;
+		lock.lock();
+		try {
+			standingBusiness = standingBusService.rankStandings(asOfDate);
+		}
+		finally {
+			lock.unlock();
+		}
 		int result = 0;
 		if (null != standingBusiness.getStandings() ) {
 			result = standingBusiness.getStandings().size();
 		}
+		if (standingBusiness.isCompleted()) {
+			runCheckpointAppService.completeRun(DateTimeConverter.getLocalDate(games.get(0).getGameDateTime()));
+		}
 		logger.info("standingsRanker: standingsCount: " + result + " Completed: route to outputChannel");
 		return games;
 	}
@@ -1,16 +1,24 @@
 package com.rossotti.basketball.integration;
 
 import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.service.MetricService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.annotation.Router;
 import java.util.List;
 
 @Configuration
 public class StandingsRouter {
+	private final MetricService metricService;
 	private final Logger logger = LoggerFactory.getLogger(StandingsRouter.class);
 
+	@Autowired
+	public StandingsRouter(MetricService metricService) {
+		this.metricService = metricService;
+	}
+
 	@Router(inputChannel = "standingsRouterChannel")
 	public String routeStandings(List<Game> games) {
 		if (games.size() > 0) {
@@ -19,20 +27,20 @@ public class StandingsRouter {
 				if (game != null) {
 					if (!game.isCompleted() && !game.isPostponed() && !game.isCancelled()) {
 						logger.info("game " + i + " " + game.getStatus() + ": route to outputChannel");
-						return "outputChannel";
+						return metricService.route("standingsRouter", "outputChannel");
 					}
 				}
 				else {
 					logger.info("game " + i + " null: route to outputChannel");
-					return "outputChannel";
+					return metricService.route("standingsRouter", "outputChannel");
 				}
 			}
 		}
 		else {
 			logger.info("no games completed: route to outputChannel");
-			return "outputChannel";
+			return metricService.route("standingsRouter", "outputChannel");
 		}
 		logger.info("gameCount: " + games.size() + " Completed: route to standingsRankChannel");
-		return "standingsRankChannel";
+		return metricService.route("standingsRouter", "standingsRankChannel");
 	}
 }
\ No newline at end of file
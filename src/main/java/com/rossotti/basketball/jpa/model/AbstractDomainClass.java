@@ -1,12 +1,25 @@
 package com.rossotti.basketball.jpa.model;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import javax.persistence.*;
 
 @MappedSuperclass
 public class AbstractDomainClass implements ModelObject {
 
+    //ids are reserved 50 at a time per table from hibernate_sequences, so inserts can be batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "pooledTableGenerator")
+    @GenericGenerator(name = "pooledTableGenerator", strategy = "org.hibernate.id.enhanced.TableGenerator", parameters = {
+        @Parameter(name = "table_name", value = "hibernate_sequences"),
+        @Parameter(name = "segment_column_name", value = "sequence_name"),
+        @Parameter(name = "value_column_name", value = "next_val"),
+        @Parameter(name = "prefer_entity_table_as_segment_value", value = "true"),
+        @Parameter(name = "initial_value", value = "1"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")
+    })
     Long id;
 
     @Override
@@ -1,11 +1,16 @@
 package com.rossotti.basketball.jpa.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "official")
 @Table(name="official", uniqueConstraints=@UniqueConstraint(columnNames={"lastName", "firstName", "fromDate", "toDate"}))
 public class Official extends AbstractDomainClass {
 
@@ -18,6 +23,7 @@ public class Official extends AbstractDomainClass {
 	}
 
 	@OneToMany(mappedBy="official", fetch = FetchType.LAZY)
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "official.gameOfficials")
 	private List<GameOfficial> gameOfficials = new ArrayList<>();
 	private List<GameOfficial> getGameOfficials() {
 		return gameOfficials;
@@ -1,11 +1,16 @@
 package com.rossotti.basketball.jpa.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "player")
 @Table(name="player", uniqueConstraints=@UniqueConstraint(columnNames={"lastName", "firstName", "birthdate"}))
 public class Player extends AbstractDomainClass {
 
@@ -18,6 +23,7 @@ public class Player extends AbstractDomainClass {
 	}
 
 	@OneToMany(mappedBy="player", fetch = FetchType.LAZY)
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "player.rosterPlayers")
 	private List<RosterPlayer> rosterPlayers = new ArrayList<>();
 	public List<RosterPlayer> getRosterPlayers()  {
 		return rosterPlayers;
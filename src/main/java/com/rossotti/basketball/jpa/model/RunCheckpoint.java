@@ -0,0 +1,62 @@
+package com.rossotti.basketball.jpa.model;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+@Entity
+@Table(name="runCheckpoint", uniqueConstraints=@UniqueConstraint(columnNames={"gameDate"}))
+public class RunCheckpoint extends AbstractDomainClass {
+
+	public RunCheckpoint() {
+		setStatusCode(StatusCodeDAO.Found);
+	}
+
+	public RunCheckpoint(StatusCodeDAO statusCode) {
+		setStatusCode(statusCode);
+	}
+
+	@Column(name="gameDate", nullable=false)
+	private LocalDate gameDate;
+	public LocalDate getGameDate() {
+		return gameDate;
+	}
+	public void setGameDate(LocalDate gameDate) {
+		this.gameDate = gameDate;
+	}
+
+	@Enumerated(EnumType.STRING)
+	@Column(name="status", length=9, nullable=false)
+	private RunStatus status;
+	public RunStatus getStatus() {
+		return status;
+	}
+	public void setStatus(RunStatus status) {
+		this.status = status;
+	}
+	public Boolean isStarted() {
+		return status == RunStatus.Started;
+	}
+	public Boolean isCompleted() {
+		return status == RunStatus.Completed;
+	}
+	public enum RunStatus {
+		Started,
+		Completed
+	}
+
+	@Column(name="gameCount", nullable=false)
+	private Short gameCount;
+	public Short getGameCount() {
+		return gameCount;
+	}
+	public void setGameCount(Short gameCount) {
+		this.gameCount = gameCount;
+	}
+
+	public String toString() {
+		return ("\r" + "  id: " + this.id + "\n") +
+				"  gameDate: " + this.gameDate + "\n" +
+				"  status: " + this.status + "\n" +
+				"  gameCount: " + this.gameCount + "\n";
+	}
+}
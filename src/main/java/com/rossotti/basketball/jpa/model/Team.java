@@ -1,11 +1,16 @@
 package com.rossotti.basketball.jpa.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "team")
 @Table(name="team", uniqueConstraints=@UniqueConstraint(columnNames={"teamKey", "fromDate", "toDate"}))
 public class Team extends AbstractDomainClass {
 
@@ -18,6 +23,7 @@ public class Team extends AbstractDomainClass {
 	}
 
 	@OneToMany(mappedBy="team", fetch = FetchType.LAZY)
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "team.standings")
 	private List<Standing> standings = new ArrayList<>();
 	public List<Standing> getStandings() {
 		return standings;
@@ -27,6 +33,7 @@ public class Team extends AbstractDomainClass {
 	}
 
 	@OneToMany(mappedBy="team", fetch = FetchType.LAZY)
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "team.rosterPlayers")
 	private List<RosterPlayer> rosterPlayers = new ArrayList<>();
 	public List<RosterPlayer> getRosterPlayers() {
 		return rosterPlayers;
@@ -36,6 +43,7 @@ public class Team extends AbstractDomainClass {
 	}
 
 	@OneToMany(mappedBy="team", fetch = FetchType.LAZY)
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "team.boxScores")
 	private List<BoxScore> boxScores = new ArrayList<>();
 	public List<BoxScore> getBoxScores() {
 		return boxScores;
@@ -29,6 +29,20 @@ public interface GameRepository extends Repository<Game, Long> {
 	@Query(findByTeamKeyAndFromDateAndToDate)
 	Game findByTeamKeyAndFromDateAndToDate(@Param("teamKey") String teamKey, @Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
 
+	//fetch variants load both box scores and their teams with the games, bs only filters by team
+	String findByTeamKeyAndFromDateAndToDateWithBoxScores =
+			"select distinct g from Game g " +
+			"left join fetch g.boxScores fbs " +
+			"left join fetch fbs.team " +
+			"inner join g.boxScores bs " +
+			"inner join bs.team t " +
+			"where g.gameDateTime >= :fromDateTime " +
+			"and g.gameDateTime <= :toDateTime " +
+			"and t.teamKey = :teamKey";
+
+	@Query(findByTeamKeyAndFromDateAndToDateWithBoxScores)
+	Game findByTeamKeyAndFromDateAndToDateWithBoxScores(@Param("teamKey") String teamKey, @Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
+
 	String findByTeamKeyAndFromDateAndToDateSeason =
 			"select g from Game g " +
 			"left join g.boxScores bs " +
@@ -43,6 +57,35 @@ public interface GameRepository extends Repository<Game, Long> {
 	@Query(findByTeamKeyAndFromDateAndToDateSeason)
 	List<Game> findByTeamKeyAndFromDateAndToDateSeason(@Param("teamKey") String teamKey, @Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
 
+	String findByTeamKeyAndFromDateAndToDateSeasonWithBoxScores =
+			"select distinct g from Game g " +
+			"left join fetch g.boxScores fbs " +
+			"left join fetch fbs.team " +
+			"inner join g.boxScores bs " +
+			"inner join bs.team t " +
+			"where g.gameDateTime >= :fromDateTime " +
+			"and g.gameDateTime <= :toDateTime " +
+			"and (g.status = 'Completed' " +
+			"or g.status = 'Scheduled') " +
+			"and t.teamKey = :teamKey " +
+			"order by g.gameDateTime asc";
+
+	@Query(findByTeamKeyAndFromDateAndToDateSeasonWithBoxScores)
+	List<Game> findByTeamKeyAndFromDateAndToDateSeasonWithBoxScores(@Param("teamKey") String teamKey, @Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
+
+	String findByFromDateAndToDateSeasonWithBoxScores =
+			"select distinct g from Game g " +
+			"left join fetch g.boxScores bs " +
+			"left join fetch bs.team " +
+			"where g.gameDateTime >= :fromDateTime " +
+			"and g.gameDateTime <= :toDateTime " +
+			"and (g.status = 'Completed' " +
+			"or g.status = 'Scheduled') " +
+			"order by g.gameDateTime asc";
+
+	@Query(findByFromDateAndToDateSeasonWithBoxScores)
+	List<Game> findByFromDateAndToDateSeasonWithBoxScores(@Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
+
 	String findByFromDateAndToDate =
 			"select g from Game g " +
 			"where gameDateTime >= :fromDateTime " +
@@ -52,6 +95,28 @@ public interface GameRepository extends Repository<Game, Long> {
 	@Query(findByFromDateAndToDate)
 	List<Game> findByFromDateAndToDate(@Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
 
+	String findByFromDateAndToDateWithBoxScores =
+			"select distinct g from Game g " +
+			"left join fetch g.boxScores bs " +
+			"left join fetch bs.team " +
+			"where g.gameDateTime >= :fromDateTime " +
+			"and g.gameDateTime <= :toDateTime " +
+			"order by g.status desc, g.gameDateTime asc";
+
+	@Query(findByFromDateAndToDateWithBoxScores)
+	List<Game> findByFromDateAndToDateWithBoxScores(@Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
+
+	//hibernate fetches one list per query, run in the same transaction as the box score fetch to fill the same games
+	String findByFromDateAndToDateWithOfficials =
+			"select distinct g from Game g " +
+			"left join fetch g.gameOfficials go " +
+			"left join fetch go.official " +
+			"where g.gameDateTime >= :fromDateTime " +
+			"and g.gameDateTime <= :toDateTime";
+
+	@Query(findByFromDateAndToDateWithOfficials)
+	List<Game> findByFromDateAndToDateWithOfficials(@Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
+
 	String findCountByFromDateAndToDate =
 			"select count(g) " +
 			"from Game g " +
@@ -72,4 +137,14 @@ public interface GameRepository extends Repository<Game, Long> {
 
 	@Query(findPreviousByTeamKeyAndAsOfDate)
 	List<LocalDateTime> findPreviousByTeamKeyAndAsOfDate(@Param("teamKey") String teamKey, @Param("asOfDateTime") LocalDateTime asOfDateTime);
+
+	String findScheduledByFromDateAndToDate =
+			"select g.gameDateTime from Game g " +
+			"where g.gameDateTime >= :fromDateTime " +
+			"and g.gameDateTime <= :toDateTime " +
+			"and g.status = 'Scheduled' " +
+			"order by g.gameDateTime asc";
+
+	@Query(findScheduledByFromDateAndToDate)
+	List<LocalDateTime> findScheduledByFromDateAndToDate(@Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
 }
\ No newline at end of file
@@ -2,14 +2,18 @@ package com.rossotti.basketball.jpa.repository;
 
 import com.rossotti.basketball.jpa.model.Official;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
 
 public interface OfficialRepository extends Repository<Official, Long> {
 
+	//results go to the query cache when hibernate.cache.use_query_cache is on
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	List<Official> findAll();
 
 	Official findOne(Long id);
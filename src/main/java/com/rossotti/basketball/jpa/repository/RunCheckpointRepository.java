@@ -0,0 +1,20 @@
+package com.rossotti.basketball.jpa.repository;
+
+import com.rossotti.basketball.jpa.model.RunCheckpoint;
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RunCheckpointRepository extends Repository<RunCheckpoint, Long> {
+
+	List<RunCheckpoint> findAll();
+
+	RunCheckpoint findOne(Long id);
+
+	void save(RunCheckpoint runCheckpoint);
+
+	void delete(Long id);
+
+	RunCheckpoint findByGameDate(LocalDate gameDate);
+}
@@ -16,6 +16,8 @@ public interface StandingRepository extends Repository<Standing, Long> {
 
 	void save(Standing standing);
 
+	<S extends Standing> Iterable<S> save(Iterable<S> standings);
+
 	void delete(Long id);
 
 	String findByTeamKey =
@@ -2,14 +2,18 @@ package com.rossotti.basketball.jpa.repository;
 
 import com.rossotti.basketball.jpa.model.Team;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
 
 public interface TeamRepository extends Repository<Team, Long> {
 
+	//results go to the query cache when hibernate.cache.use_query_cache is on
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	List<Team> findAll();
 
 	Team findOne(Long id);
@@ -36,6 +40,7 @@ public interface TeamRepository extends Repository<Team, Long> {
 	@Query(findByLastNameAndFromDateAndToDate)
 	Team findByLastNameAndFromDateAndToDate(@Param("lastName") String lastName, @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	List<Team> findByTeamKey(String teamKey);
 
 	String findByFromDateAndToDate =
@@ -11,7 +11,9 @@ import java.util.List;
 public interface GameJpaService extends CrudService<Game> {
 	Game findByTeamKeyAndAsOfDate(String teamKey, LocalDate asOfDate);
 	List<Game> findByTeamKeyAndAsOfDateSeason(String teamKey, LocalDate asOfDate);
+	List<Game> findByAsOfDateSeason(LocalDate asOfDate);
 	List<Game> findByAsOfDate(LocalDate asOfDate);
 	int findCountByAsOfDate(LocalDate asOfDate);
 	LocalDateTime findPreviousByTeamKeyAsOfDate(String teamKey, LocalDate asOfDate);
+	List<LocalDateTime> findScheduledByFromDateTimeAndToDateTime(LocalDateTime fromDateTime, LocalDateTime toDateTime);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.rossotti.basketball.jpa.service;
+
+import com.rossotti.basketball.jpa.model.RunCheckpoint;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Service
+public interface RunCheckpointJpaService extends CrudService<RunCheckpoint> {
+	RunCheckpoint findByGameDate(LocalDate gameDate);
+}
@@ -11,4 +11,5 @@ public interface StandingJpaService extends CrudService<Standing> {
 	List<Standing> findByTeamKey(String teamKey);
 	List<Standing> findByAsOfDate(LocalDate asOfDate);
 	Standing findByTeamKeyAndAsOfDate(String teamKey, LocalDate asOfDate);
+	List<Standing> createAll(List<Standing> createStandings);
 }
\ No newline at end of file
@@ -8,8 +8,11 @@ import com.rossotti.basketball.jpa.model.GameOfficial;
 import com.rossotti.basketball.jpa.repository.GameRepository;
 import com.rossotti.basketball.jpa.service.GameJpaService;
 import com.rossotti.basketball.util.function.DateTimeConverter;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -21,14 +24,29 @@ public class GameJpaServiceImpl implements GameJpaService {
 
 	private GameRepository gameRepository;
 
+	private TransactionTemplate readTransaction;
+
 	@Autowired
 	public void setGameRepository(GameRepository gameRepository) {
 		this.gameRepository = gameRepository;
 	}
 
+	@Autowired
+	public void setTransactionManager(PlatformTransactionManager transactionManager) {
+		readTransaction = new TransactionTemplate(transactionManager);
+		readTransaction.setReadOnly(true);
+	}
+
+	//loads the box scores, teams and officials that scoring and update read, the game is used detached afterwards
 	@Override
 	public Game findByTeamKeyAndAsOfDate(String teamKey, LocalDate asOfDate) {
-		Game game = gameRepository.findByTeamKeyAndFromDateAndToDate(teamKey, DateTimeConverter.getLocalDateTimeMin(asOfDate), DateTimeConverter.getLocalDateTimeMax(asOfDate));
+		Game game = readTransaction.execute(status -> {
+			Game findGame = gameRepository.findByTeamKeyAndFromDateAndToDateWithBoxScores(teamKey, DateTimeConverter.getLocalDateTimeMin(asOfDate), DateTimeConverter.getLocalDateTimeMax(asOfDate));
+			if (findGame != null) {
+				Hibernate.initialize(findGame.getGameOfficials());
+			}
+			return findGame;
+		});
 		if (game != null) {
 			game.setStatusCode(StatusCodeDAO.Found);
 		}
@@ -40,12 +58,24 @@ public class GameJpaServiceImpl implements GameJpaService {
 
 	@Override
 	public List<Game> findByTeamKeyAndAsOfDateSeason(String teamKey, LocalDate asOfDate) {
-		return gameRepository.findByTeamKeyAndFromDateAndToDateSeason(teamKey, DateTimeConverter.getLocalDateTimeSeasonMin(asOfDate), DateTimeConverter.getLocalDateTimeMax(asOfDate));
+		return gameRepository.findByTeamKeyAndFromDateAndToDateSeasonWithBoxScores(teamKey, DateTimeConverter.getLocalDateTimeSeasonMin(asOfDate), DateTimeConverter.getLocalDateTimeMax(asOfDate));
 	}
 
+	@Override
+	public List<Game> findByAsOfDateSeason(LocalDate asOfDate) {
+		return gameRepository.findByFromDateAndToDateSeasonWithBoxScores(DateTimeConverter.getLocalDateTimeSeasonMin(asOfDate), DateTimeConverter.getLocalDateTimeMax(asOfDate));
+	}
+
+	//loads box scores, teams and officials, the games are scored detached
 	@Override
 	public List<Game> findByAsOfDate(LocalDate asOfDate) {
-		return gameRepository.findByFromDateAndToDate(DateTimeConverter.getLocalDateTimeMin(asOfDate), DateTimeConverter.getLocalDateTimeMax(asOfDate));
+		LocalDateTime fromDateTime = DateTimeConverter.getLocalDateTimeMin(asOfDate);
+		LocalDateTime toDateTime = DateTimeConverter.getLocalDateTimeMax(asOfDate);
+		return readTransaction.execute(status -> {
+			List<Game> games = gameRepository.findByFromDateAndToDateWithBoxScores(fromDateTime, toDateTime);
+			gameRepository.findByFromDateAndToDateWithOfficials(fromDateTime, toDateTime);
+			return games;
+		});
 	}
 
 	@Override
@@ -53,6 +83,11 @@ public class GameJpaServiceImpl implements GameJpaService {
 		return gameRepository.findCountByFromDateAndToDate(DateTimeConverter.getLocalDateTimeMin(asOfDate), DateTimeConverter.getLocalDateTimeMax(asOfDate));
 	}
 
+	@Override
+	public List<LocalDateTime> findScheduledByFromDateTimeAndToDateTime(LocalDateTime fromDateTime, LocalDateTime toDateTime) {
+		return gameRepository.findScheduledByFromDateAndToDate(fromDateTime, toDateTime);
+	}
+
 	@Override
 	public LocalDateTime findPreviousByTeamKeyAsOfDate(String teamKey, LocalDate asOfDate) {
 		List<LocalDateTime> gameDateTime = gameRepository.findPreviousByTeamKeyAndAsOfDate(teamKey, DateTimeConverter.getLocalDateTimeMin(asOfDate));
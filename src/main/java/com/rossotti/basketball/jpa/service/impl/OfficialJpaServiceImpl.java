@@ -14,8 +14,13 @@ import java.util.List;
 @Service
 public class OfficialJpaServiceImpl implements OfficialJpaService {
 
+	private static final int nameIndex = 0;
+
 	private OfficialRepository officialRepository;
 
+	//as of date lookups are answered from memory, every write below invalidates the index
+	private final TemporalIndex<Official> temporalIndex = new TemporalIndex<Official>(() -> officialRepository.findAll(), OfficialJpaServiceImpl::copy, Official::getFromDate, Official::getToDate, OfficialJpaServiceImpl::getName);
+
 	@Autowired
 	public void setOfficialRepository(OfficialRepository officialRepository) {
 		this.officialRepository = officialRepository;
@@ -23,7 +28,7 @@ public class OfficialJpaServiceImpl implements OfficialJpaService {
 
 	@Override
 	public Official findByLastNameAndFirstNameAndAsOfDate(String lastName, String firstName, LocalDate asOfDate) {
-		Official official = officialRepository.findByLastNameAndFirstNameAndFromDateAndToDate(lastName, firstName, asOfDate, asOfDate);
+		Official official = temporalIndex.find(nameIndex, getName(lastName, firstName), asOfDate);
 		if (official != null) {
 			official.setStatusCode(StatusCodeDAO.Found);
 		}
@@ -35,7 +40,7 @@ public class OfficialJpaServiceImpl implements OfficialJpaService {
 
 	@Override
 	public List<Official> findByAsOfDate(LocalDate asOfDate) {
-		return officialRepository.findByFromDateAndToDate(asOfDate, asOfDate);
+		return temporalIndex.findAll(asOfDate);
 	}
 
 	@Override
@@ -54,7 +59,12 @@ public class OfficialJpaServiceImpl implements OfficialJpaService {
 	public Official create(Official createOfficial) {
 		Official official = findByLastNameAndFirstNameAndAsOfDate(createOfficial.getLastName(), createOfficial.getFirstName(), createOfficial.getFromDate());
 		if (official.isNotFound()) {
-			officialRepository.save(createOfficial);
+			try {
+				officialRepository.save(createOfficial);
+			}
+			finally {
+				temporalIndex.invalidate();
+			}
 			createOfficial.setStatusCode(StatusCodeDAO.Created);
 			return createOfficial;
 		}
@@ -67,12 +77,18 @@ public class OfficialJpaServiceImpl implements OfficialJpaService {
 	public Official update(Official updateOfficial) {
 		Official official = findByLastNameAndFirstNameAndAsOfDate(updateOfficial.getLastName(), updateOfficial.getFirstName(), updateOfficial.getFromDate());
 		if (official.isFound()) {
-			official.setLastName(updateOfficial.getLastName());
-			official.setFirstName(updateOfficial.getFirstName());
-			official.setFromDate(updateOfficial.getFromDate());
-			official.setToDate(updateOfficial.getToDate());
-			official.setNumber(updateOfficial.getNumber());
-			officialRepository.save(official);
+			//the index is rebuilt even when the save fails
+			try {
+				official.setLastName(updateOfficial.getLastName());
+				official.setFirstName(updateOfficial.getFirstName());
+				official.setFromDate(updateOfficial.getFromDate());
+				official.setToDate(updateOfficial.getToDate());
+				official.setNumber(updateOfficial.getNumber());
+				officialRepository.save(official);
+			}
+			finally {
+				temporalIndex.invalidate();
+			}
 			official.setStatusCode(StatusCodeDAO.Updated);
 		}
 		return official;
@@ -82,7 +98,12 @@ public class OfficialJpaServiceImpl implements OfficialJpaService {
 	public Official delete(Long id) {
 		Official findOfficial = getById(id);
 		if (findOfficial != null && findOfficial.isFound()) {
-			officialRepository.delete(findOfficial.getId());
+			try {
+				officialRepository.delete(findOfficial.getId());
+			}
+			finally {
+				temporalIndex.invalidate();
+			}
 			findOfficial.setStatusCode(StatusCodeDAO.Deleted);
 			return findOfficial;
 		}
@@ -90,4 +111,24 @@ public class OfficialJpaServiceImpl implements OfficialJpaService {
 			return new Official(StatusCodeDAO.NotFound);
 		}
 	}
+
+	//scalar columns only, the lazy collection of the indexed official was never loaded
+	private static Official copy(Official official) {
+		Official copyOfficial = new Official();
+		copyOfficial.setId(official.getId());
+		copyOfficial.setLastName(official.getLastName());
+		copyOfficial.setFirstName(official.getFirstName());
+		copyOfficial.setFromDate(official.getFromDate());
+		copyOfficial.setToDate(official.getToDate());
+		copyOfficial.setNumber(official.getNumber());
+		return copyOfficial;
+	}
+
+	private static String getName(Official official) {
+		return getName(official.getLastName(), official.getFirstName());
+	}
+
+	private static String getName(String lastName, String firstName) {
+		return lastName + "/" + firstName;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.rossotti.basketball.jpa.service.impl;
+
+import com.rossotti.basketball.jpa.model.AbstractDomainClass.StatusCodeDAO;
+import com.rossotti.basketball.jpa.model.RunCheckpoint;
+import com.rossotti.basketball.jpa.repository.RunCheckpointRepository;
+import com.rossotti.basketball.jpa.service.RunCheckpointJpaService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class RunCheckpointJpaServiceImpl implements RunCheckpointJpaService {
+
+	private RunCheckpointRepository runCheckpointRepository;
+
+	@Autowired
+	public void setRunCheckpointRepository(RunCheckpointRepository runCheckpointRepository) {
+		this.runCheckpointRepository = runCheckpointRepository;
+	}
+
+	@Override
+	public RunCheckpoint findByGameDate(LocalDate gameDate) {
+		RunCheckpoint runCheckpoint = runCheckpointRepository.findByGameDate(gameDate);
+		if (runCheckpoint != null) {
+			runCheckpoint.setStatusCode(StatusCodeDAO.Found);
+		}
+		else {
+			runCheckpoint = new RunCheckpoint(StatusCodeDAO.NotFound);
+		}
+		return runCheckpoint;
+	}
+
+	@Override
+	public List<?> listAll() {
+		List<RunCheckpoint> runCheckpoints = new ArrayList<>();
+		runCheckpointRepository.findAll().forEach(runCheckpoints::add);
+		return runCheckpoints;
+	}
+
+	@Override
+	public RunCheckpoint getById(Long id) {
+		return runCheckpointRepository.findOne(id);
+	}
+
+	@Override
+	public RunCheckpoint create(RunCheckpoint createRunCheckpoint) {
+		RunCheckpoint runCheckpoint = findByGameDate(createRunCheckpoint.getGameDate());
+		if (runCheckpoint.isNotFound()) {
+			runCheckpointRepository.save(createRunCheckpoint);
+			createRunCheckpoint.setStatusCode(StatusCodeDAO.Created);
+			return createRunCheckpoint;
+		}
+		else {
+			return runCheckpoint;
+		}
+	}
+
+	@Override
+	public RunCheckpoint update(RunCheckpoint updateRunCheckpoint) {
+		RunCheckpoint runCheckpoint = findByGameDate(updateRunCheckpoint.getGameDate());
+		if (runCheckpoint.isFound()) {
+			runCheckpoint.setStatus(updateRunCheckpoint.getStatus());
+			runCheckpoint.setGameCount(updateRunCheckpoint.getGameCount());
+			runCheckpointRepository.save(runCheckpoint);
+			runCheckpoint.setStatusCode(StatusCodeDAO.Updated);
+		}
+		return runCheckpoint;
+	}
+
+	@Override
+	public RunCheckpoint delete(Long id) {
+		RunCheckpoint findRunCheckpoint = getById(id);
+		if (findRunCheckpoint != null && findRunCheckpoint.isFound()) {
+			runCheckpointRepository.delete(findRunCheckpoint.getId());
+			findRunCheckpoint.setStatusCode(StatusCodeDAO.Deleted);
+			return findRunCheckpoint;
+		}
+		else {
+			return new RunCheckpoint(StatusCodeDAO.NotFound);
+		}
+	}
+}
@@ -6,6 +6,7 @@ import com.rossotti.basketball.jpa.repository.StandingRepository;
 import com.rossotti.basketball.jpa.service.StandingJpaService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -68,6 +69,31 @@ public class StandingJpaServiceImpl implements StandingJpaService {
 		}
 	}
 
+	//new standings are saved in one transaction so their inserts go out as a jdbc batch
+	@Override
+	@Transactional
+	public List<Standing> createAll(List<Standing> createStandings) {
+		List<Standing> standings = new ArrayList<>();
+		List<Standing> newStandings = new ArrayList<>();
+		for (Standing createStanding : createStandings) {
+			Standing standing = findByTeamKeyAndAsOfDate(createStanding.getTeam().getTeamKey(), createStanding.getStandingDate());
+			if (standing.isNotFound()) {
+				newStandings.add(createStanding);
+				standings.add(createStanding);
+			}
+			else {
+				standings.add(standing);
+			}
+		}
+		if (newStandings.size() > 0) {
+			standingRepository.save(newStandings);
+			for (Standing newStanding : newStandings) {
+				newStanding.setStatusCode(StatusCodeDAO.Created);
+			}
+		}
+		return standings;
+	}
+
 	@Override
 	public Standing update(Standing updateStanding) {
 		Standing standing = findByTeamKeyAndAsOfDate(updateStanding.getTeam().getTeamKey(), updateStanding.getStandingDate());
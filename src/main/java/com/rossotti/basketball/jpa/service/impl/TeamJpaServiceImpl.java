@@ -14,8 +14,14 @@ import java.util.List;
 @Service
 public class TeamJpaServiceImpl implements TeamJpaService {
 
+	private static final int teamKeyIndex = 0;
+	private static final int lastNameIndex = 1;
+
 	private TeamRepository teamRepository;
 
+	//as of date lookups are answered from memory, every write below invalidates the index
+	private final TemporalIndex<Team> temporalIndex = new TemporalIndex<Team>(() -> teamRepository.findAll(), TeamJpaServiceImpl::copy, Team::getFromDate, Team::getToDate, Team::getTeamKey, Team::getLastName);
+
 	@Autowired
 	public void setTeamRepository(TeamRepository teamRepository) {
 		this.teamRepository = teamRepository;
@@ -28,12 +34,12 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 
 	@Override
 	public List<Team> findByDate(LocalDate asOfDate) {
-		return teamRepository.findByFromDateAndToDate(asOfDate, asOfDate);
+		return temporalIndex.findAll(asOfDate);
 	}
 
 	@Override
 	public Team findByTeamKeyAndAsOfDate(String teamKey, LocalDate asOfDate) {
-		Team team = teamRepository.findByTeamKeyAndFromDateAndToDate(teamKey, asOfDate, asOfDate);
+		Team team = temporalIndex.find(teamKeyIndex, teamKey, asOfDate);
 		if (team != null) {
 			team.setStatusCode(StatusCodeDAO.Found);
 		}
@@ -45,7 +51,7 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 
 	@Override
 	public Team findByLastNameAndAsOfDate(String lastName, LocalDate asOfDate) {
-		Team team = teamRepository.findByLastNameAndFromDateAndToDate(lastName, asOfDate, asOfDate);
+		Team team = temporalIndex.find(lastNameIndex, lastName, asOfDate);
 		if (team != null) {
 			team.setStatusCode(StatusCodeDAO.Found);
 		}
@@ -71,7 +77,12 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 	public Team create(Team createTeam) {
 		Team team = findByTeamKeyAndAsOfDate(createTeam.getTeamKey(), createTeam.getFromDate());
 		if (team.isNotFound()) {
-			teamRepository.save(createTeam);
+			try {
+				teamRepository.save(createTeam);
+			}
+			finally {
+				temporalIndex.invalidate();
+			}
 			createTeam.setStatusCode(StatusCodeDAO.Created);
 			return createTeam;
 		}
@@ -84,18 +95,24 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 	public Team update(Team updateTeam) {
 		Team team = findByTeamKeyAndAsOfDate(updateTeam.getTeamKey(), updateTeam.getFromDate());
 		if (team.isFound()) {
-			team.setLastName(updateTeam.getLastName());
-			team.setFirstName(updateTeam.getFirstName());
-			team.setFullName(updateTeam.getFullName());
-			team.setAbbr(updateTeam.getAbbr());
-			team.setFromDate(updateTeam.getFromDate());
-			team.setToDate(updateTeam.getToDate());
-			team.setConference(updateTeam.getConference());
-			team.setDivision(updateTeam.getDivision());
-			team.setCity(updateTeam.getCity());
-			team.setState(updateTeam.getState());
-			team.setSiteName(updateTeam.getSiteName());
-			teamRepository.save(team);
+			//the index is rebuilt even when the save fails
+			try {
+				team.setLastName(updateTeam.getLastName());
+				team.setFirstName(updateTeam.getFirstName());
+				team.setFullName(updateTeam.getFullName());
+				team.setAbbr(updateTeam.getAbbr());
+				team.setFromDate(updateTeam.getFromDate());
+				team.setToDate(updateTeam.getToDate());
+				team.setConference(updateTeam.getConference());
+				team.setDivision(updateTeam.getDivision());
+				team.setCity(updateTeam.getCity());
+				team.setState(updateTeam.getState());
+				team.setSiteName(updateTeam.getSiteName());
+				teamRepository.save(team);
+			}
+			finally {
+				temporalIndex.invalidate();
+			}
 			team.setStatusCode(StatusCodeDAO.Updated);
 		}
 		return team;
@@ -105,7 +122,12 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 	public Team delete(Long id) {
 		Team findTeam = getById(id);
 		if (findTeam != null && findTeam.isFound()) {
-			teamRepository.delete(findTeam.getId());
+			try {
+				teamRepository.delete(findTeam.getId());
+			}
+			finally {
+				temporalIndex.invalidate();
+			}
 			findTeam.setStatusCode(StatusCodeDAO.Deleted);
 			return findTeam;
 		}
@@ -113,4 +135,23 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 			return new Team(StatusCodeDAO.NotFound);
 		}
 	}
-}
\ No newline at end of file
+
+	//scalar columns only, the lazy collections of the indexed team were never loaded
+	private static Team copy(Team team) {
+		Team copyTeam = new Team();
+		copyTeam.setId(team.getId());
+		copyTeam.setTeamKey(team.getTeamKey());
+		copyTeam.setFromDate(team.getFromDate());
+		copyTeam.setToDate(team.getToDate());
+		copyTeam.setFirstName(team.getFirstName());
+		copyTeam.setLastName(team.getLastName());
+		copyTeam.setFullName(team.getFullName());
+		copyTeam.setAbbr(team.getAbbr());
+		copyTeam.setConference(team.getConference());
+		copyTeam.setDivision(team.getDivision());
+		copyTeam.setSiteName(team.getSiteName());
+		copyTeam.setCity(team.getCity());
+		copyTeam.setState(team.getState());
+		return copyTeam;
+	}
+}
@@ -0,0 +1,127 @@
+package com.rossotti.basketball.jpa.service.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+//in memory copy of a small reference table whose rows are valid from fromDate to toDate, each key holds
+//its rows sorted by fromDate so an as of date lookup is a binary search, reloaded after every write
+class TemporalIndex<T> {
+	private final Supplier<List<T>> loader;
+	private final UnaryOperator<T> copier;
+	private final Function<T, LocalDate> fromDate;
+	private final Function<T, LocalDate> toDate;
+	private final List<Function<T, String>> keys;
+	private volatile Snapshot<T> snapshot;
+	private long generation;
+
+	@SafeVarargs
+	TemporalIndex(Supplier<List<T>> loader, UnaryOperator<T> copier, Function<T, LocalDate> fromDate, Function<T, LocalDate> toDate, Function<T, String>... keys) {
+		this.loader = loader;
+		this.copier = copier;
+		this.fromDate = fromDate;
+		this.toDate = toDate;
+		List<Function<T, String>> keyList = new ArrayList<>();
+		Collections.addAll(keyList, keys);
+		this.keys = keyList;
+	}
+
+	//returns a copy, callers set status codes and update it while other threads read the index
+	//returns null when no row of the key is valid on asOfDate
+	T find(int key, String value, LocalDate asOfDate) {
+		List<T> rows = getSnapshot().intervals.get(key).get(value);
+		if (rows == null) {
+			return null;
+		}
+		int low = 0;
+		int high = rows.size() - 1;
+		int floor = -1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (fromDate.apply(rows.get(middle)).isAfter(asOfDate)) {
+				high = middle - 1;
+			}
+			else {
+				floor = middle;
+				low = middle + 1;
+			}
+		}
+		if (floor >= 0 && isValid(rows.get(floor), asOfDate)) {
+			return copier.apply(rows.get(floor));
+		}
+		return null;
+	}
+
+	List<T> findAll(LocalDate asOfDate) {
+		List<T> rows = new ArrayList<>();
+		for (T row : getSnapshot().rows) {
+			if (isValid(row, asOfDate)) {
+				rows.add(copier.apply(row));
+			}
+		}
+		return rows;
+	}
+
+	synchronized void invalidate() {
+		generation++;
+		snapshot = null;
+	}
+
+	private boolean isValid(T row, LocalDate asOfDate) {
+		LocalDate from = fromDate.apply(row);
+		LocalDate to = toDate.apply(row);
+		return from != null && to != null && !from.isAfter(asOfDate) && !to.isBefore(asOfDate);
+	}
+
+	private Snapshot<T> getSnapshot() {
+		Snapshot<T> current = snapshot;
+		if (current != null) {
+			return current;
+		}
+		long loadGeneration;
+		synchronized (this) {
+			if (snapshot != null) {
+				return snapshot;
+			}
+			loadGeneration = generation;
+		}
+		Snapshot<T> loaded = new Snapshot<>(loader.get(), fromDate, keys);
+		synchronized (this) {
+			//a write during the load leaves the index empty so the next lookup reloads
+			if (generation == loadGeneration) {
+				snapshot = loaded;
+			}
+		}
+		return loaded;
+	}
+
+	private static class Snapshot<T> {
+		private final List<T> rows;
+		private final List<Map<String, List<T>>> intervals = new ArrayList<>();
+
+		private Snapshot(List<T> rows, Function<T, LocalDate> fromDate, List<Function<T, String>> keys) {
+			this.rows = rows;
+			Comparator<T> byFromDate = Comparator.comparing(fromDate);
+			for (Function<T, String> key : keys) {
+				Map<String, List<T>> keyIntervals = new HashMap<>();
+				for (T row : rows) {
+					String value = key.apply(row);
+					if (value != null && fromDate.apply(row) != null) {
+						keyIntervals.computeIfAbsent(value, k -> new ArrayList<>()).add(row);
+					}
+				}
+				for (List<T> keyRows : keyIntervals.values()) {
+					keyRows.sort(byFromDate);
+				}
+				intervals.add(keyIntervals);
+			}
+		}
+	}
+}
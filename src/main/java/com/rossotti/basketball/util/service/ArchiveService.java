@@ -0,0 +1,242 @@
+package com.rossotti.basketball.util.service;
+
+import com.rossotti.basketball.util.service.exception.FileException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+//append-only archive of raw xmlstats payloads, a directory holding archive.idx is an archive
+//payloads are gzipped into numbered segments, the index maps each event to segment, offset and length
+@Service
+public class ArchiveService {
+	static final String indexFileName = "archive.idx";
+	private static final long segmentSize = 64L * 1024 * 1024;
+
+	private final Map<Path, Archive> archives = new ConcurrentHashMap<>();
+
+	private final Logger logger = LoggerFactory.getLogger(ArchiveService.class);
+
+	public boolean isArchive(String directory) {
+		return Files.exists(Paths.get(directory, indexFileName));
+	}
+
+	public boolean contains(String directory, String event) {
+		return isArchive(directory) && getArchive(directory).index.containsKey(event);
+	}
+
+	//returns null when the event is not archived
+	public InputStream read(String directory, String event) {
+		if (!isArchive(directory)) {
+			return null;
+		}
+		try {
+			byte[] data = getArchive(directory).read(event);
+			return data == null ? null : new GZIPInputStream(new ByteArrayInputStream(data));
+		}
+		catch (IOException ioe) {
+			throw new FileException("IOException");
+		}
+	}
+
+	public void append(String directory, String event, byte[] json) {
+		try {
+			getArchive(directory).append(event, json);
+		}
+		catch (IOException ioe) {
+			throw new FileException("IOException");
+		}
+	}
+
+	//copies every event.json file of the per-file layout into the archive, the files are left in place
+	//events already archived are skipped so a rerun only adds the files that are new since the last one
+	public int convert(String directory) {
+		List<Path> jsonFiles;
+		try (Stream<Path> files = Files.list(Paths.get(directory))) {
+			jsonFiles = files
+				.filter(path -> path.getFileName().toString().endsWith(".json"))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+		catch (IOException ioe) {
+			throw new FileException("IOException");
+		}
+		int archived = 0;
+		for (Path jsonFile : jsonFiles) {
+			String fileName = jsonFile.getFileName().toString();
+			String event = fileName.substring(0, fileName.length() - ".json".length());
+			if (contains(directory, event)) {
+				continue;
+			}
+			try {
+				append(directory, event, Files.readAllBytes(jsonFile));
+			}
+			catch (IOException ioe) {
+				throw new FileException("IOException");
+			}
+			archived++;
+		}
+		logger.info("Archived " + archived + " of " + jsonFiles.size() + " files in " + directory);
+		return archived;
+	}
+
+	@PreDestroy
+	public void close() {
+		for (Archive archive : archives.values()) {
+			try {
+				archive.close();
+			}
+			catch (IOException ioe) {
+				logger.warn("Unable to close archive " + archive.directory + ": " + ioe);
+			}
+		}
+		archives.clear();
+	}
+
+	private Archive getArchive(String directory) {
+		return archives.computeIfAbsent(Paths.get(directory).toAbsolutePath(), path -> {
+			try {
+				return new Archive(path);
+			}
+			catch (IOException ioe) {
+				throw new FileException("IOException");
+			}
+		});
+	}
+
+	private static class Archive {
+		private final Path directory;
+		private final Map<String, Entry> index = new ConcurrentHashMap<>();
+		private final Map<Integer, FileChannel> channels = new ConcurrentHashMap<>();
+		private int segment = 1;
+		private long segmentLength;
+		private BufferedWriter indexWriter;
+
+		private Archive(Path directory) throws IOException {
+			this.directory = directory;
+			Path indexFile = directory.resolve(indexFileName);
+			if (Files.exists(indexFile)) {
+				try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+					String line;
+					while ((line = reader.readLine()) != null) {
+						String[] fields = line.split("\t");
+						if (fields.length == 4) {
+							Entry entry = new Entry(Integer.parseInt(fields[1]), Long.parseLong(fields[2]), Integer.parseInt(fields[3]));
+							index.put(fields[0], entry);
+							segment = Math.max(segment, entry.segment);
+						}
+					}
+				}
+			}
+			Path segmentFile = getSegmentFile(segment);
+			segmentLength = Files.exists(segmentFile) ? Files.size(segmentFile) : 0;
+		}
+
+		private synchronized void append(String event, byte[] json) throws IOException {
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+			try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+				gzip.write(json);
+			}
+			byte[] data = compressed.toByteArray();
+			if (segmentLength > 0 && segmentLength + data.length > segmentSize) {
+				segment++;
+				segmentLength = 0;
+			}
+			Files.createDirectories(directory);
+			try (OutputStream outputStream = Files.newOutputStream(getSegmentFile(segment), StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+				outputStream.write(data);
+			}
+			Entry entry = new Entry(segment, segmentLength, data.length);
+			segmentLength += data.length;
+			if (indexWriter == null) {
+				indexWriter = Files.newBufferedWriter(directory.resolve(indexFileName), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			}
+			//segment is written before the index line, a crash in between only leaves unreferenced bytes
+			indexWriter.write(event + "\t" + entry.segment + "\t" + entry.offset + "\t" + entry.length);
+			indexWriter.newLine();
+			indexWriter.flush();
+			index.put(event, entry);
+		}
+
+		private byte[] read(String event) throws IOException {
+			Entry entry = index.get(event);
+			if (entry == null) {
+				return null;
+			}
+			FileChannel channel = channels.get(entry.segment);
+			if (channel == null) {
+				channel = FileChannel.open(getSegmentFile(entry.segment), StandardOpenOption.READ);
+				FileChannel existing = channels.putIfAbsent(entry.segment, channel);
+				if (existing != null) {
+					channel.close();
+					channel = existing;
+				}
+			}
+			ByteBuffer buffer = ByteBuffer.allocate(entry.length);
+			long position = entry.offset;
+			while (buffer.hasRemaining()) {
+				int read = channel.read(buffer, position);
+				if (read < 0) {
+					throw new EOFException(event);
+				}
+				position += read;
+			}
+			return buffer.array();
+		}
+
+		private Path getSegmentFile(int segment) {
+			return directory.resolve(String.format("archive-%05d.seg", segment));
+		}
+
+		//closes every file even when one fails, the first failure is thrown with the rest suppressed
+		private synchronized void close() throws IOException {
+			List<Closeable> closeables = new ArrayList<>(channels.values());
+			if (indexWriter != null) {
+				closeables.add(0, indexWriter);
+			}
+			IOException closeException = null;
+			for (Closeable closeable : closeables) {
+				try {
+					closeable.close();
+				}
+				catch (IOException ioe) {
+					if (closeException == null) {
+						closeException = ioe;
+					}
+					else {
+						closeException.addSuppressed(ioe);
+					}
+				}
+			}
+			if (closeException != null) {
+				throw closeException;
+			}
+		}
+	}
+
+	private static class Entry {
+		private final int segment;
+		private final long offset;
+		private final int length;
+
+		private Entry(int segment, long offset, int length) {
+			this.segment = segment;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.rossotti.basketball.util.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManagerFactory;
+
+//copies hibernate cache hit and miss counts, totals since startup, into the metrics when hibernate.generate_statistics is on
+@Service
+public class CacheStatisticsService {
+	private final EntityManagerFactory entityManagerFactory;
+
+	private final MetricService metricService;
+
+	@Autowired
+	public CacheStatisticsService(EntityManagerFactory entityManagerFactory, MetricService metricService) {
+		this.entityManagerFactory = entityManagerFactory;
+		this.metricService = metricService;
+	}
+
+	public void publish() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		if (!statistics.isStatisticsEnabled()) {
+			return;
+		}
+		for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+			SecondLevelCacheStatistics regionStatistics = statistics.getSecondLevelCacheStatistics(regionName);
+			if (regionStatistics != null) {
+				metricService.recordMax("cache." + regionName + ".hit", regionStatistics.getHitCount());
+				metricService.recordMax("cache." + regionName + ".miss", regionStatistics.getMissCount());
+				metricService.recordMax("cache." + regionName + ".put", regionStatistics.getPutCount());
+				metricService.recordMax("cache." + regionName + ".size", regionStatistics.getElementCountInMemory());
+			}
+		}
+		metricService.recordMax("cache.query.hit", statistics.getQueryCacheHitCount());
+		metricService.recordMax("cache.query.miss", statistics.getQueryCacheMissCount());
+		metricService.recordMax("cache.query.put", statistics.getQueryCachePutCount());
+		metricService.recordMax("db.queryExecution", statistics.getQueryExecutionCount());
+	}
+}
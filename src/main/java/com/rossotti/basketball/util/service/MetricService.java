@@ -0,0 +1,109 @@
+package com.rossotti.basketball.util.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class MetricService {
+	private final Map<String, LongAdder> counters = new ConcurrentSkipListMap<>();
+	private final Map<String, Timer> timers = new ConcurrentSkipListMap<>();
+	private final Map<String, AtomicLong> gauges = new ConcurrentSkipListMap<>();
+
+	private final Logger logger = LoggerFactory.getLogger(MetricService.class);
+
+	public void increment(String name) {
+		counters.computeIfAbsent(name, key -> new LongAdder()).increment();
+	}
+
+	//counts the channel a router picked as route.<router>.<channel> and returns it
+	public String route(String router, String channel) {
+		increment("route." + router + "." + channel);
+		return channel;
+	}
+
+	public void recordTime(String name, long nanos) {
+		timers.computeIfAbsent(name, key -> new Timer()).record(nanos);
+	}
+
+	public long startTimer() {
+		return System.nanoTime();
+	}
+
+	public void stopTimer(String name, long startNanos) {
+		recordTime(name, System.nanoTime() - startNanos);
+	}
+
+	//keeps the highest value observed, e.g. queue depth
+	public void recordMax(String name, long value) {
+		gauges.computeIfAbsent(name, key -> new AtomicLong()).accumulateAndGet(value, Math::max);
+	}
+
+	public long getCount(String name) {
+		LongAdder counter = counters.get(name);
+		return counter == null ? 0 : counter.sum();
+	}
+
+	public Timer getTimer(String name) {
+		return timers.get(name);
+	}
+
+	public long getMax(String name) {
+		AtomicLong gauge = gauges.get(name);
+		return gauge == null ? 0 : gauge.get();
+	}
+
+	public void reset() {
+		counters.clear();
+		timers.clear();
+		gauges.clear();
+	}
+
+	public void logMetrics() {
+		logger.info("begin metrics");
+		counters.forEach((name, counter) -> logger.info("counter " + name + ": " + counter.sum()));
+		timers.forEach((name, timer) -> logger.info("timer " + name + ": " + timer));
+		gauges.forEach((name, gauge) -> logger.info("max " + name + ": " + gauge.get()));
+		logger.info("end metrics");
+	}
+
+	public static class Timer {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		private void record(long nanos) {
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getTotalMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+		}
+
+		public long getMeanMillis() {
+			long count = getCount();
+			return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count);
+		}
+
+		public long getMaxMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+		}
+
+		@Override
+		public String toString() {
+			return "count=" + getCount() + " totalMs=" + getTotalMillis() + " meanMs=" + getMeanMillis() + " maxMs=" + getMaxMillis();
+		}
+	}
+}
@@ -24,7 +24,8 @@ public class PropertyService {
 
 	public enum ClientSource {
 		File,
-		Api
+		Api,
+		Hybrid
 	}
 
 	public String getProperty_String(String propertyName) {
@@ -35,14 +36,31 @@ public class PropertyService {
 		return property;
 	}
 
+	public String getProperty_String(String propertyName, String defaultValue) {
+		String property = env.getProperty(propertyName);
+		if (StringUtils.isEmpty(property)) {
+			return defaultValue;
+		}
+		return property;
+	}
+
 	public String getProperty_Http(String propertyName) {
 		String http = getProperty_String(propertyName);
-		if (!StringUtils.startsWithIgnoreCase(http, "https://")) {
+		//plain http only for the local replay server, and only when replay is switched on
+		if (!StringUtils.startsWithIgnoreCase(http, "https://") && !(isReplay() && isLoopback(http))) {
 			throw new PropertyException(propertyName);
 		}
 		return http;
 	}
 
+	private boolean isReplay() {
+		return env.acceptsProfiles("replay") || env.getProperty("accumulator.replay", Boolean.class, false);
+	}
+
+	private boolean isLoopback(String http) {
+		return StringUtils.startsWithIgnoreCase(http, "http://127.0.0.1:") || StringUtils.startsWithIgnoreCase(http, "http://localhost:");
+	}
+
 	public int getProperty_Int(String propertyName) {
 		String property = getProperty_String(propertyName);
 		try {
@@ -53,6 +71,13 @@ public class PropertyService {
 		}
 	}
 
+	public int getProperty_Int(String propertyName, int defaultValue) {
+		if (StringUtils.isEmpty(env.getProperty(propertyName))) {
+			return defaultValue;
+		}
+		return getProperty_Int(propertyName);
+	}
+
 	public String getProperty_Path(String propertyName) {
 		String path = getProperty_String(propertyName);
 		if (!new File(path).exists()) {
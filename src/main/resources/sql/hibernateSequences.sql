@@ -0,0 +1,20 @@
+-- One time migration for an existing MySQL schema when ids move from auto increment to the
+-- pooled table generator. Each table's segment starts past its highest id; id columns keep
+-- auto_increment, which is ignored once hibernate supplies the id.
+-- Run runCheckpoint.sql first, the last insert reads the runCheckpoint table it creates.
+create table if not exists hibernate_sequences (
+	sequence_name varchar(255) not null,
+	next_val bigint,
+	primary key (sequence_name)
+) engine=InnoDB;
+
+insert into hibernate_sequences (sequence_name, next_val) select 'team', coalesce(max(id), 0) + 1 from team;
+insert into hibernate_sequences (sequence_name, next_val) select 'player', coalesce(max(id), 0) + 1 from player;
+insert into hibernate_sequences (sequence_name, next_val) select 'rosterPlayer', coalesce(max(id), 0) + 1 from rosterPlayer;
+insert into hibernate_sequences (sequence_name, next_val) select 'official', coalesce(max(id), 0) + 1 from official;
+insert into hibernate_sequences (sequence_name, next_val) select 'game', coalesce(max(id), 0) + 1 from game;
+insert into hibernate_sequences (sequence_name, next_val) select 'gameOfficial', coalesce(max(id), 0) + 1 from gameOfficial;
+insert into hibernate_sequences (sequence_name, next_val) select 'boxScore', coalesce(max(id), 0) + 1 from boxScore;
+insert into hibernate_sequences (sequence_name, next_val) select 'boxScorePlayer', coalesce(max(id), 0) + 1 from boxScorePlayer;
+insert into hibernate_sequences (sequence_name, next_val) select 'standing', coalesce(max(id), 0) + 1 from standing;
+insert into hibernate_sequences (sequence_name, next_val) select 'runCheckpoint', coalesce(max(id), 0) + 1 from runCheckpoint;
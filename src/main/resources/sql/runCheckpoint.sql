@@ -0,0 +1,11 @@
+-- One time migration for an existing MySQL schema, creates the table behind RunCheckpoint.
+-- Run it before hibernateSequences.sql, which seeds the runCheckpoint id segment from this table.
+-- Ids come from hibernate_sequences, so the id column has no auto_increment.
+create table if not exists runCheckpoint (
+	id bigint not null,
+	gameDate date not null,
+	status varchar(9) not null,
+	gameCount smallint not null,
+	primary key (id),
+	unique key uk_runCheckpoint_gameDate (gameDate)
+) engine=InnoDB;
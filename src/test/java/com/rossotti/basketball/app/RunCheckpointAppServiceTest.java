@@ -0,0 +1,86 @@
+package com.rossotti.basketball.app;
+
+import com.rossotti.basketball.app.service.RunCheckpointAppService;
+import com.rossotti.basketball.jpa.model.AbstractDomainClass.StatusCodeDAO;
+import com.rossotti.basketball.jpa.model.RunCheckpoint;
+import com.rossotti.basketball.jpa.model.RunCheckpoint.RunStatus;
+import com.rossotti.basketball.jpa.service.GameJpaService;
+import com.rossotti.basketball.jpa.service.RunCheckpointJpaService;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RunCheckpointAppServiceTest {
+	@Mock
+	private RunCheckpointJpaService runCheckpointJpaService;
+
+	@Mock
+	private GameJpaService gameJpaService;
+
+	@InjectMocks
+	private RunCheckpointAppService runCheckpointAppService;
+
+	@Test
+	public void startRun_Updated() {
+		when(runCheckpointJpaService.update(anyObject()))
+			.thenReturn(createMockRunCheckpoint(StatusCodeDAO.Updated));
+		RunCheckpoint runCheckpoint = runCheckpointAppService.startRun(LocalDate.of(2016, 10, 27), 4);
+		Assert.assertTrue(runCheckpoint.isUpdated());
+		verify(runCheckpointJpaService, times(0)).create(anyObject());
+	}
+
+	@Test
+	public void startRun_Created() {
+		when(runCheckpointJpaService.update(anyObject()))
+			.thenReturn(createMockRunCheckpoint(StatusCodeDAO.NotFound));
+		when(runCheckpointJpaService.create(anyObject()))
+			.thenReturn(createMockRunCheckpoint(StatusCodeDAO.Created));
+		RunCheckpoint runCheckpoint = runCheckpointAppService.startRun(LocalDate.of(2016, 10, 27), 4);
+		Assert.assertTrue(runCheckpoint.isCreated());
+		verify(runCheckpointJpaService, times(1)).update(anyObject());
+	}
+
+	@Test
+	public void startRun_concurrentInsert() {
+		when(runCheckpointJpaService.update(anyObject()))
+			.thenReturn(createMockRunCheckpoint(StatusCodeDAO.NotFound))
+			.thenReturn(createMockRunCheckpoint(StatusCodeDAO.Updated));
+		when(runCheckpointJpaService.create(anyObject()))
+			.thenThrow(new DataIntegrityViolationException("gameDate"));
+		RunCheckpoint runCheckpoint = runCheckpointAppService.startRun(LocalDate.of(2016, 10, 27), 4);
+		Assert.assertTrue(runCheckpoint.isUpdated());
+		verify(runCheckpointJpaService, times(2)).update(anyObject());
+	}
+
+	@Test
+	public void startRun_concurrentInsertFound() {
+		when(runCheckpointJpaService.update(anyObject()))
+			.thenReturn(createMockRunCheckpoint(StatusCodeDAO.NotFound))
+			.thenReturn(createMockRunCheckpoint(StatusCodeDAO.Updated));
+		when(runCheckpointJpaService.create(anyObject()))
+			.thenReturn(createMockRunCheckpoint(StatusCodeDAO.Found));
+		RunCheckpoint runCheckpoint = runCheckpointAppService.startRun(LocalDate.of(2016, 10, 27), 4);
+		Assert.assertTrue(runCheckpoint.isUpdated());
+		verify(runCheckpointJpaService, times(2)).update(anyObject());
+	}
+
+	private RunCheckpoint createMockRunCheckpoint(StatusCodeDAO statusCode) {
+		RunCheckpoint runCheckpoint = new RunCheckpoint(statusCode);
+		runCheckpoint.setGameDate(LocalDate.of(2016, 10, 27));
+		runCheckpoint.setGameCount((short)4);
+		runCheckpoint.setStatus(RunStatus.Started);
+		return runCheckpoint;
+	}
+}
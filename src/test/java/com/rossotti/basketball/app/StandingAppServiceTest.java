@@ -203,6 +203,46 @@ public class StandingAppServiceTest {
 		Assert.assertEquals(-19, standingRecord.getOpptGamesPlayed().intValue());
 	}
 
+	@Test
+	public void buildStrengthOfScheduleMap_matchesPerTeam() {
+		List<Game> games = createMockGames_Season();
+		when(gameJpaService.findByAsOfDateSeason(anyObject()))
+			.thenReturn(games);
+		when(gameJpaService.findByTeamKeyAndAsOfDateSeason(anyString(), anyObject()))
+			.thenAnswer(invocation -> {
+				String teamKey = (String)invocation.getArguments()[0];
+				List<Game> teamGames = new ArrayList<>();
+				for (Game game : games) {
+					if (game.getBoxScoreHome().getTeam().getTeamKey().equals(teamKey) || game.getBoxScoreAway().getTeam().getTeamKey().equals(teamKey)) {
+						teamGames.add(game);
+					}
+				}
+				return teamGames;
+			});
+		LocalDate asOfDate = LocalDate.of(2015, 12, 8);
+		List<Standing> standings = createMockStandings();
+		Map<String, StandingRecord> standingsMap = standingAppService.buildStandingsMap(standings, asOfDate);
+		Map<String, StandingRecord> strengthOfScheduleMap = standingAppService.buildStrengthOfScheduleMap(standings, asOfDate);
+		Assert.assertEquals(standings.size(), strengthOfScheduleMap.size());
+		for (Standing standing : standings) {
+			String teamKey = standing.getTeam().getTeamKey();
+			Map<String, StandingRecord> headToHeadMap = standingAppService.buildHeadToHeadMap(teamKey, asOfDate, standingsMap);
+			StandingRecord expected = standingAppService.calculateStrengthOfSchedule(teamKey, asOfDate, standingsMap, headToHeadMap);
+			StandingRecord actual = strengthOfScheduleMap.get(teamKey);
+			Assert.assertEquals(teamKey, expected.getGamesWon(), actual.getGamesWon());
+			Assert.assertEquals(teamKey, expected.getGamesPlayed(), actual.getGamesPlayed());
+			Assert.assertEquals(teamKey, expected.getOpptGamesWon(), actual.getOpptGamesWon());
+			Assert.assertEquals(teamKey, expected.getOpptGamesPlayed(), actual.getOpptGamesPlayed());
+		}
+	}
+
+	@Test(expected=IllegalStateException.class)
+	public void buildStrengthOfScheduleMap_opponentNotInStandings() {
+		when(gameJpaService.findByAsOfDateSeason(anyObject()))
+			.thenReturn(Collections.singletonList(createMockGame(LocalDateTime.of(2015, 12, 2, 10, 0), "boston-celtics", "utah-jazz", true)));
+		standingAppService.buildStrengthOfScheduleMap(createMockStandings(), LocalDate.of(2015, 12, 8));
+	}
+
 	private StandingsDTO createMockStandingsDTO_teamNotFound() {
 		StandingsDTO standings = new StandingsDTO();
 		standings.standings_date = ZonedDateTime.parse("2015-11-29T18:00:00-05:00");
@@ -317,6 +357,33 @@ public class StandingAppServiceTest {
 		);
 	}
 
+	//kings beat the pistons more often than the pistons' standing allows, so the opponent record is clamped
+	private List<Game> createMockGames_Season() {
+		return Arrays.asList(
+				createMockGame(LocalDateTime.of(2015, 12, 2, 10, 0), "detroit-pistons", "sacramento-kings", false),
+				createMockGame(LocalDateTime.of(2015, 12, 2, 10, 0), "phoenix-suns", "utah-jazz", false),
+				createMockGame(LocalDateTime.of(2015, 12, 3, 10, 0), "sacramento-kings", "miami-heat", true),
+				createMockGame(LocalDateTime.of(2015, 12, 3, 10, 0), "detroit-pistons", "utah-jazz", true),
+				createMockGame(LocalDateTime.of(2015, 12, 4, 10, 0), "miami-heat", "sacramento-kings", true),
+				createMockGame(LocalDateTime.of(2015, 12, 4, 10, 0), "utah-jazz", "phoenix-suns", true),
+				createMockGame(LocalDateTime.of(2015, 12, 5, 10, 0), "utah-jazz", "sacramento-kings", true),
+				createMockGame(LocalDateTime.of(2015, 12, 6, 10, 0), "sacramento-kings", "detroit-pistons", true),
+				createMockGame(LocalDateTime.of(2015, 12, 7, 10, 0), "detroit-pistons", "sacramento-kings", false),
+				createMockGame(LocalDateTime.of(2015, 12, 7, 10, 0), "miami-heat", "phoenix-suns", null)
+		);
+	}
+
+	private Game createMockGame(LocalDateTime gameDateTime, String homeTeamKey, String awayTeamKey, Boolean homeWin) {
+		Game game = createMockGame(gameDateTime, homeTeamKey, awayTeamKey);
+		game.getBoxScores().get(0).setLocation(BoxScore.Location.Home);
+		game.getBoxScores().get(1).setLocation(BoxScore.Location.Away);
+		if (homeWin != null) {
+			game.getBoxScores().get(0).setResult(homeWin ? BoxScore.Result.Win : BoxScore.Result.Loss);
+			game.getBoxScores().get(1).setResult(homeWin ? BoxScore.Result.Loss : BoxScore.Result.Win);
+		}
+		return game;
+	}
+
 	private Game createMockGame(LocalDateTime gameDateTime, String homeTeamKey, String awayTeamKey) {
 		Game game = new Game();
 		game.setGameDateTime(gameDateTime);
@@ -0,0 +1,90 @@
+package com.rossotti.basketball.business;
+
+import com.rossotti.basketball.business.service.BoxScorePrefetchService;
+import com.rossotti.basketball.client.dto.GameDTO;
+import com.rossotti.basketball.client.dto.StatusCodeDTO.StatusCode;
+import com.rossotti.basketball.util.service.PropertyService;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BoxScorePrefetchServiceTest {
+	private final BlockingQueue<String> loadedEvents = new LinkedBlockingQueue<>();
+	private final Function<String, GameDTO> loader = event -> {
+		loadedEvents.add(event);
+		GameDTO gameDTO = new GameDTO();
+		gameDTO.setStatusCode(StatusCode.Found);
+		return gameDTO;
+	};
+	private BoxScorePrefetchService boxScorePrefetchService;
+
+	@Before
+	public void setUp() {
+		PropertyService propertyService = mock(PropertyService.class);
+		when(propertyService.getProperty_Int(anyString(), anyInt())).thenReturn(1);
+		boxScorePrefetchService = new BoxScorePrefetchService(propertyService);
+	}
+
+	@After
+	public void tearDown() {
+		boxScorePrefetchService.shutdown();
+	}
+
+	@Test
+	public void prefetch_window() throws InterruptedException {
+		boxScorePrefetchService.prefetch(Arrays.asList("game-1", "game-2", "game-3"), loader);
+		Assert.assertEquals("game-1", loadedEvents.poll(5, TimeUnit.SECONDS));
+		Assert.assertNull(loadedEvents.poll(200, TimeUnit.MILLISECONDS));
+		Assert.assertTrue(boxScorePrefetchService.take("game-1").isFound());
+		Assert.assertEquals("game-2", loadedEvents.poll(5, TimeUnit.SECONDS));
+		Assert.assertNull(loadedEvents.poll(200, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void prefetchFirst_aheadOfQueued() throws InterruptedException {
+		boxScorePrefetchService.prefetch(Arrays.asList("next-1", "next-2"), loader);
+		Assert.assertEquals("next-1", loadedEvents.poll(5, TimeUnit.SECONDS));
+		boxScorePrefetchService.prefetchFirst(Collections.singletonList("game-1"), loader);
+		Assert.assertTrue(boxScorePrefetchService.take("next-1").isFound());
+		Assert.assertEquals("game-1", loadedEvents.poll(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void release_untakenEvicted() throws InterruptedException {
+		boxScorePrefetchService.prefetch(Arrays.asList("20161027-game-1", "20161027-game-2", "20161028-game-3"), loader);
+		Assert.assertEquals("20161027-game-1", loadedEvents.poll(5, TimeUnit.SECONDS));
+		boxScorePrefetchService.release(LocalDate.of(2016, 10, 27));
+		Assert.assertEquals("20161028-game-3", loadedEvents.poll(5, TimeUnit.SECONDS));
+		Assert.assertNull(boxScorePrefetchService.take("20161027-game-1"));
+		Assert.assertTrue(boxScorePrefetchService.take("20161028-game-3").isFound());
+		Assert.assertTrue(loadedEvents.isEmpty());
+	}
+
+	@Test
+	public void release_otherDateKept() throws InterruptedException {
+		boxScorePrefetchService.prefetch(Collections.singletonList("20161028-game-1"), loader);
+		Assert.assertEquals("20161028-game-1", loadedEvents.poll(5, TimeUnit.SECONDS));
+		boxScorePrefetchService.release(LocalDate.of(2016, 10, 27));
+		Assert.assertTrue(boxScorePrefetchService.take("20161028-game-1").isFound());
+	}
+
+	@Test
+	public void take_notPrefetched() {
+		Assert.assertNull(boxScorePrefetchService.take("game-1"));
+		Assert.assertTrue(loadedEvents.isEmpty());
+	}
+}
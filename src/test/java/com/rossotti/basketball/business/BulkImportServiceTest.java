@@ -0,0 +1,207 @@
+package com.rossotti.basketball.business;
+
+import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.app.service.RunCheckpointAppService;
+import com.rossotti.basketball.business.model.GameBusiness;
+import com.rossotti.basketball.business.model.StandingsBusiness;
+import com.rossotti.basketball.business.model.StatusCodeBusiness;
+import com.rossotti.basketball.business.service.BulkImportService;
+import com.rossotti.basketball.business.service.GameBusService;
+import com.rossotti.basketball.business.service.RosterPlayerBusService;
+import com.rossotti.basketball.business.service.StandingBusService;
+import com.rossotti.basketball.client.dto.GameDTO;
+import com.rossotti.basketball.client.dto.StatusCodeDTO.StatusCode;
+import com.rossotti.basketball.client.service.FileStatsService;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.Game.GameStatus;
+import com.rossotti.basketball.util.service.PropertyService;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.UnexpectedRollbackException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("CanBeFinal")
+@RunWith(MockitoJUnitRunner.class)
+public class BulkImportServiceTest {
+	@Mock
+	private GameAppService gameAppService;
+
+	@Mock
+	private GameBusService gameBusService;
+
+	@Mock
+	private RosterPlayerBusService rosterPlayerBusService;
+
+	@Mock
+	private StandingBusService standingBusService;
+
+	@Mock
+	private RunCheckpointAppService runCheckpointAppService;
+
+	@Mock
+	private FileStatsService fileStatsService;
+
+	@Mock
+	private PropertyService propertyService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private BulkImportService bulkImportService;
+
+	private final LocalDate firstDate = LocalDate.of(2016, 10, 25);
+	private final LocalDate secondDate = LocalDate.of(2016, 10, 26);
+
+	@Test
+	public void importGames_dateOrder() {
+		List<Game> firstGames = createMockGames(firstDate, 2);
+		List<Game> secondGames = createMockGames(secondDate, 1);
+		when(propertyService.getProperty_Int(anyString(), anyInt()))
+			.thenReturn(2);
+		when(gameAppService.findByAsOfDate(anyObject()))
+			.thenReturn(new ArrayList<>());
+		when(gameAppService.findByAsOfDate(firstDate))
+			.thenReturn(firstGames);
+		when(gameAppService.findByAsOfDate(secondDate))
+			.thenReturn(secondGames);
+		when(gameBusService.getEvent(anyObject()))
+			.thenAnswer(invocation -> createMockEvent((Game)invocation.getArguments()[0]));
+		when(fileStatsService.retrieveBoxScore(anyString()))
+			.thenReturn(createMockGameDTO_Found());
+		when(gameBusService.scoreGame(any(GameBusiness.class)))
+			.thenAnswer(invocation -> completeGame((GameBusiness)invocation.getArguments()[0]));
+		when(standingBusService.rankStandings(anyString()))
+			.thenReturn(createMockStandings_Completed());
+
+		int completed = bulkImportService.importGames(firstDate, secondDate.plusDays(1));
+
+		Assert.assertEquals(3, completed);
+		verify(fileStatsService, times(3)).retrieveBoxScore(anyString());
+		InOrder inOrder = inOrder(standingBusService, runCheckpointAppService);
+		inOrder.verify(standingBusService).rankStandings("2016-10-25");
+		inOrder.verify(runCheckpointAppService).completeRun(firstDate);
+		inOrder.verify(standingBusService).rankStandings("2016-10-26");
+		inOrder.verify(runCheckpointAppService).completeRun(secondDate);
+	}
+
+	@Test
+	public void importGames_clientError() {
+		when(propertyService.getProperty_Int(anyString(), anyInt()))
+			.thenReturn(2);
+		when(gameAppService.findByAsOfDate(anyObject()))
+			.thenReturn(createMockGames(firstDate, 1));
+		when(gameBusService.getEvent(anyObject()))
+			.thenAnswer(invocation -> createMockEvent((Game)invocation.getArguments()[0]));
+		when(fileStatsService.retrieveBoxScore(anyString()))
+			.thenReturn(createMockGameDTO_Found());
+		when(gameBusService.scoreGame(any(GameBusiness.class)))
+			.thenReturn(new GameBusiness(new Game(), StatusCodeBusiness.StatusCode.ClientError));
+
+		int completed = bulkImportService.importGames(firstDate, firstDate);
+
+		Assert.assertEquals(0, completed);
+		verify(standingBusService, never()).rankStandings(anyString());
+	}
+
+	@Test
+	public void importGames_decodeFailed() {
+		when(propertyService.getProperty_Int(anyString(), anyInt()))
+			.thenReturn(2);
+		when(gameAppService.findByAsOfDate(anyObject()))
+			.thenReturn(createMockGames(firstDate, 1));
+		when(gameBusService.getEvent(anyObject()))
+			.thenAnswer(invocation -> createMockEvent((Game)invocation.getArguments()[0]));
+		when(fileStatsService.retrieveBoxScore(anyString()))
+			.thenThrow(new IllegalStateException("decode"));
+
+		int completed = bulkImportService.importGames(firstDate, firstDate);
+
+		Assert.assertEquals(0, completed);
+		verify(gameBusService, never()).scoreGame(any(GameBusiness.class));
+		verify(gameBusService, never()).retrieveBoxScore(anyString());
+		verify(standingBusService, never()).rankStandings(anyString());
+	}
+
+	@Test
+	public void importGames_batchRolledBack() {
+		when(propertyService.getProperty_Int(anyString(), anyInt()))
+			.thenReturn(2);
+		when(gameAppService.findByAsOfDate(anyObject()))
+			.thenReturn(createMockGames(firstDate, 2))
+			.thenReturn(createMockGames(firstDate, 2));
+		when(gameBusService.getEvent(anyObject()))
+			.thenAnswer(invocation -> createMockEvent((Game)invocation.getArguments()[0]));
+		when(fileStatsService.retrieveBoxScore(anyString()))
+			.thenReturn(createMockGameDTO_Found());
+		when(gameBusService.scoreGame(any(GameBusiness.class)))
+			.thenAnswer(invocation -> completeGame((GameBusiness)invocation.getArguments()[0]));
+		doThrow(new UnexpectedRollbackException("rollback-only"))
+			.when(transactionManager).commit(anyObject());
+		when(standingBusService.rankStandings(anyString()))
+			.thenReturn(createMockStandings_Completed());
+
+		int completed = bulkImportService.importGames(firstDate, firstDate);
+
+		Assert.assertEquals(2, completed);
+		verify(gameAppService, times(2)).findByAsOfDate(firstDate);
+		verify(gameBusService, times(4)).scoreGame(any(GameBusiness.class));
+		verify(fileStatsService, times(2)).retrieveBoxScore(anyString());
+		verify(runCheckpointAppService).completeRun(firstDate);
+	}
+
+	private String createMockEvent(Game game) {
+		return "event-" + game.getGameDateTime();
+	}
+
+	private GameBusiness completeGame(GameBusiness gameBusiness) {
+		Assert.assertNotNull(gameBusiness.getGameDTO());
+		gameBusiness.getGame().setStatus(GameStatus.Completed);
+		return new GameBusiness(gameBusiness.getGame(), StatusCodeBusiness.StatusCode.Completed);
+	}
+
+	private List<Game> createMockGames(LocalDate gameDate, int count) {
+		List<Game> games = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Game game = new Game();
+			game.setGameDateTime(LocalDateTime.of(gameDate.getYear(), gameDate.getMonth(), gameDate.getDayOfMonth(), 19 + i, 0));
+			game.setStatus(GameStatus.Scheduled);
+			games.add(game);
+		}
+		return games;
+	}
+
+	private GameDTO createMockGameDTO_Found() {
+		GameDTO gameDTO = new GameDTO();
+		gameDTO.setStatusCode(StatusCode.Found);
+		return gameDTO;
+	}
+
+	private StandingsBusiness createMockStandings_Completed() {
+		StandingsBusiness standingsBusiness = new StandingsBusiness();
+		standingsBusiness.setStandings(new ArrayList<>());
+		standingsBusiness.setStatusCode(StatusCodeBusiness.StatusCode.Completed);
+		return standingsBusiness;
+	}
+}
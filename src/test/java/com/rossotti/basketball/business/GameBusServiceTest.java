@@ -7,6 +7,7 @@ import com.rossotti.basketball.app.service.RosterPlayerAppService;
 import com.rossotti.basketball.app.service.TeamAppService;
 import com.rossotti.basketball.business.model.GameBusiness;
 import com.rossotti.basketball.business.model.StatusCodeBusiness;
+import com.rossotti.basketball.business.service.BoxScorePrefetchService;
 import com.rossotti.basketball.business.service.GameBusService;
 import com.rossotti.basketball.client.dto.GameDTO;
 import com.rossotti.basketball.client.dto.StatusCodeDTO.StatusCode;
@@ -37,6 +38,9 @@ import java.util.List;
 import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings("CanBeFinal")
@@ -63,6 +67,9 @@ public class GameBusServiceTest {
 	@Mock
 	private GameAppService gameAppService;
 
+	@Mock
+	private BoxScorePrefetchService boxScorePrefetchService;
+
 	@InjectMocks
 	private GameBusService gameBusService;
 
@@ -124,6 +131,62 @@ public class GameBusServiceTest {
 		Assert.assertTrue(game.isClientError());
 	}
 
+	@Test
+	public void hybridClientService_fileFound() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.Hybrid);
+		when(fileStatsService.retrieveBoxScore(anyString()))
+			.thenReturn(createMockGameDTO_Found());
+		GameDTO gameDTO = gameBusService.retrieveBoxScore("20160311-houston-rockets-at-boston-celtics");
+		Assert.assertTrue(gameDTO.isFound());
+		verify(restStatsService, never()).retrieveBoxScore(anyString(), anyBoolean());
+	}
+
+	@Test
+	public void hybridClientService_fileNotFound() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.Hybrid);
+		when(fileStatsService.retrieveBoxScore(anyString()))
+			.thenReturn(createMockGameDTO_StatusCode(StatusCode.NotFound));
+		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
+			.thenReturn(createMockGameDTO_Found());
+		GameDTO gameDTO = gameBusService.retrieveBoxScore("20160311-houston-rockets-at-boston-celtics");
+		Assert.assertTrue(gameDTO.isFound());
+		verify(restStatsService).retrieveBoxScore("20160311-houston-rockets-at-boston-celtics", true);
+	}
+
+	@Test
+	public void restClientService_circuitOpen() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.Api);
+		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
+			.thenReturn(createMockGameDTO_StatusCode(StatusCode.Deferred));
+		GameBusiness game = gameBusService.scoreGame(createMockGame_Scheduled());
+		Assert.assertTrue(game.isDeferred());
+	}
+
+	@Test
+	public void restClientService_serverException() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.Api);
+		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
+			.thenReturn(createMockGameDTO_StatusCode(StatusCode.ServerException));
+		GameBusiness game = gameBusService.scoreGame(createMockGame_Scheduled());
+		Assert.assertTrue(game.isServerError());
+	}
+
+	@Test
+	public void hybridClientService_fileNotFound_apiNotFound() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.Hybrid);
+		when(fileStatsService.retrieveBoxScore(anyString()))
+			.thenReturn(createMockGameDTO_StatusCode(StatusCode.NotFound));
+		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
+			.thenReturn(createMockGameDTO_StatusCode(StatusCode.NotFound));
+		GameBusiness game = gameBusService.scoreGame(createMockGame_Scheduled());
+		Assert.assertTrue(game.isClientError());
+	}
+
 	@Test
 	public void rosterPlayerService_getBoxScorePlayers_appRosterUpdate() {
 		when(propertyService.getProperty_ClientSource(anyString()))
@@ -136,6 +199,22 @@ public class GameBusServiceTest {
 		Assert.assertTrue(game.isRosterUpdate());
 	}
 
+	@Test
+	public void rosterPlayerService_getBoxScorePlayers_retryReusesBoxScore() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.Api);
+		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
+			.thenReturn(createMockGameDTO_Found());
+		when(rosterPlayerAppService.getBoxScorePlayers(anyObject(), anyObject(), anyObject(), anyString()))
+			.thenThrow(new NoSuchEntityException(RosterPlayer.class));
+		GameBusiness game = gameBusService.scoreGame(createMockGame_Scheduled());
+		Assert.assertTrue(game.isRosterUpdate());
+		Assert.assertNotNull(game.getGameDTO());
+		game = gameBusService.scoreGame(game);
+		Assert.assertTrue(game.isRosterUpdate());
+		verify(restStatsService, times(1)).retrieveBoxScore(anyString(), anyBoolean());
+	}
+
 	@Test
 	public void officialService_getGameOfficials_appOfficialError() {
 		when(propertyService.getProperty_ClientSource(anyString()))
@@ -3,7 +3,9 @@ package com.rossotti.basketball.business;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rossotti.basketball.app.service.PlayerAppService;
 import com.rossotti.basketball.app.service.RosterPlayerAppService;
+import com.rossotti.basketball.business.model.GameBusiness;
 import com.rossotti.basketball.business.model.RosterPlayerBusiness;
+import com.rossotti.basketball.business.model.StatusCodeBusiness;
 import com.rossotti.basketball.business.service.RosterPlayerBusService;
 import com.rossotti.basketball.client.dto.RosterDTO;
 import com.rossotti.basketball.client.dto.RosterPlayerDTO;
@@ -12,6 +14,7 @@ import com.rossotti.basketball.client.service.FileStatsService;
 import com.rossotti.basketball.client.service.RestStatsService;
 import com.rossotti.basketball.jpa.exception.NoSuchEntityException;
 import com.rossotti.basketball.jpa.model.AbstractDomainClass.StatusCodeDAO;
+import com.rossotti.basketball.jpa.model.Game;
 import com.rossotti.basketball.jpa.model.Player;
 import com.rossotti.basketball.jpa.model.RosterPlayer;
 import com.rossotti.basketball.jpa.model.Team;
@@ -30,12 +33,23 @@ import org.springframework.test.context.junit4.SpringRunner;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -97,6 +111,18 @@ public class RosterPlayerBusServiceTest {
 		Assert.assertTrue(roster.isClientError());
 	}
 
+	@Test
+	public void hybridClientService_rosterNotFound() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.Hybrid);
+		when(fileStatsService.retrieveRoster(anyString(), anyObject()))
+			.thenReturn(createMockRosterDTO_StatusCode(StatusCode.NotFound));
+		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), anyObject()))
+			.thenReturn(createMockRosterDTO_StatusCode(StatusCode.NotFound));
+		RosterPlayerBusiness roster = rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons");
+		Assert.assertTrue(roster.isClientError());
+	}
+
 	@Test
 	public void fileClientService_emptyList() {
 		when(propertyService.getProperty_ClientSource(anyString()))
@@ -137,6 +163,28 @@ public class RosterPlayerBusServiceTest {
 		Assert.assertTrue(roster.isClientError());
 	}
 
+	@Test
+	public void restClientService_serverException() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.Api);
+		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), anyObject()))
+			.thenReturn(createMockRosterDTO_StatusCode(StatusCode.ServerException));
+		RosterPlayerBusiness roster = rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons");
+		Assert.assertTrue(roster.isServerError());
+	}
+
+	@Test
+	public void restClientService_serverException_gameNotRerouted() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.Api);
+		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), anyObject()))
+			.thenReturn(createMockRosterDTO_StatusCode(StatusCode.ServerException));
+		GameBusiness gameBusiness = new GameBusiness(createMockGame(), StatusCodeBusiness.StatusCode.RosterUpdate);
+		gameBusiness.setRosterLastTeam("detroit-pistons");
+		gameBusiness = rosterPlayerBusService.loadRoster(gameBusiness);
+		Assert.assertTrue(gameBusiness.isServerError());
+	}
+
 	@Test
 	public void rosterPlayerService_noSuchEntity_team() {
 		when(propertyService.getProperty_ClientSource(anyString()))
@@ -205,6 +253,132 @@ public class RosterPlayerBusServiceTest {
 		Assert.assertTrue(roster.isCompleted());
 	}
 
+	@Test
+	public void loadRoster_completedLoadNotReused() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.Api);
+		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), anyObject()))
+			.thenReturn(createMockRosterDTO_Found());
+		when(rosterPlayerAppService.getRosterPlayers(anyObject(), anyObject(), anyString()))
+			.thenReturn(createMockRosterPlayers());
+		when(rosterPlayerAppService.findByPlayerNameTeamAsOfDate(anyString(), anyString(), anyString(), anyObject()))
+			.thenReturn(new RosterPlayer(StatusCodeDAO.NotFound));
+		when(rosterPlayerAppService.findByPlayerNameBirthdateAsOfDate(anyString(), anyString(), anyObject(), anyObject()))
+			.thenReturn(new RosterPlayer(StatusCodeDAO.NotFound));
+		when(playerAppService.findByPlayerNameBirthdate(anyString(), anyString(), anyObject()))
+			.thenReturn(new Player(StatusCodeDAO.NotFound));
+		when(playerAppService.createPlayer(anyObject()))
+			.thenReturn(createMockPlayer("Jones", "Basketball"));
+		when(rosterPlayerAppService.findByTeamKeyAsOfDate(anyObject(), anyString()))
+			.thenReturn(createMockRosterPlayers());
+		Assert.assertTrue(rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons").isCompleted());
+		Assert.assertTrue(rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons").isCompleted());
+		verify(restStatsService, times(2)).retrieveRoster(anyString(), anyBoolean(), anyObject());
+	}
+
+	@Test
+	public void loadRoster_concurrentLoadShared() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.File);
+		when(fileStatsService.retrieveRoster(anyString(), anyObject()))
+			.thenAnswer(invocation -> {
+				loading.countDown();
+				release.await(10, TimeUnit.SECONDS);
+				return createMockRosterDTO_StatusCode(StatusCode.NotFound);
+			});
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<RosterPlayerBusiness> loader = executor.submit(() -> rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons"));
+			Assert.assertTrue(loading.await(10, TimeUnit.SECONDS));
+			AtomicReference<Thread> waiterThread = new AtomicReference<>();
+			Future<RosterPlayerBusiness> waiter = executor.submit(() -> {
+				waiterThread.set(Thread.currentThread());
+				return rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons");
+			});
+			awaitJoin(waiterThread);
+			release.countDown();
+			Assert.assertTrue(loader.get(10, TimeUnit.SECONDS).isClientError());
+			Assert.assertSame(loader.get(), waiter.get(10, TimeUnit.SECONDS));
+			verify(fileStatsService, times(1)).retrieveRoster(anyString(), anyObject());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void loadRoster_concurrentLoadFailed() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.File);
+		when(fileStatsService.retrieveRoster(anyString(), anyObject()))
+			.thenAnswer(invocation -> {
+				loading.countDown();
+				release.await(10, TimeUnit.SECONDS);
+				throw new AssertionError("roster");
+			});
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<RosterPlayerBusiness> loader = executor.submit(() -> rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons"));
+			Assert.assertTrue(loading.await(10, TimeUnit.SECONDS));
+			AtomicReference<Thread> waiterThread = new AtomicReference<>();
+			Future<RosterPlayerBusiness> waiter = executor.submit(() -> {
+				waiterThread.set(Thread.currentThread());
+				return rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons");
+			});
+			awaitJoin(waiterThread);
+			release.countDown();
+			//the waiting caller fails with the loader's exception, not a CompletionException wrapping it
+			assertFailedWith(loader, AssertionError.class);
+			assertFailedWith(waiter, AssertionError.class);
+			verify(fileStatsService, times(1)).retrieveRoster(anyString(), anyObject());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	//the second caller is parked on the first caller's load
+	private void awaitJoin(AtomicReference<Thread> thread) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while (System.currentTimeMillis() < deadline) {
+			if (thread.get() != null) {
+				for (StackTraceElement element : thread.get().getStackTrace()) {
+					if (element.getClassName().equals(CompletableFuture.class.getName()) && element.getMethodName().equals("join")) {
+						return;
+					}
+				}
+			}
+			Thread.sleep(10);
+		}
+		Assert.fail("second roster load never waited on the first");
+	}
+
+	private void assertFailedWith(Future<RosterPlayerBusiness> future, Class<? extends Throwable> cause) throws Exception {
+		try {
+			future.get(10, TimeUnit.SECONDS);
+			Assert.fail("roster load should fail");
+		}
+		catch (ExecutionException e) {
+			Assert.assertEquals(cause, e.getCause().getClass());
+			Assert.assertEquals("roster", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void loadRoster_clientErrorNotReused() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.File);
+		when(fileStatsService.retrieveRoster(anyString(), anyObject()))
+			.thenReturn(createMockRosterDTO_StatusCode(StatusCode.NotFound));
+		Assert.assertTrue(rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons").isClientError());
+		Assert.assertTrue(rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons").isClientError());
+		verify(fileStatsService, times(2)).retrieveRoster(anyString(), anyObject());
+	}
+
 	private RosterDTO createMockRosterDTO_Found() {
 		RosterDTO roster;
 		try {
@@ -250,6 +424,12 @@ public class RosterPlayerBusServiceTest {
 		return player;
 	}
 
+	private Game createMockGame() {
+		Game game = new Game();
+		game.setGameDateTime(LocalDateTime.of(2014, 10, 28, 20, 0));
+		return game;
+	}
+
 	private Team createMockTeam() {
 		Team team = new Team();
 		team.setTeamKey("brooklyn-nets");
@@ -87,6 +87,18 @@ public class StandingsBusServiceTest {
 		Assert.assertTrue(standings.isClientError());
 	}
 
+	@Test
+	public void hybridClientService_standingsNotFound() {
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.Hybrid);
+		when(fileStatsService.retrieveStandings(anyString()))
+			.thenReturn(createMockStandingsDTO_StatusCode(StatusCode.NotFound));
+		when(restStatsService.retrieveStandings(anyString(), anyBoolean()))
+			.thenReturn(createMockStandingsDTO_StatusCode(StatusCode.NotFound));
+		StandingsBusiness standings = standingsBusinessService.rankStandings("2014-10-28");
+		Assert.assertTrue(standings.isClientError());
+	}
+
 	@Test
 	public void fileClientService_emptyList() {
 		when(propertyService.getProperty_ClientSource(anyString()))
@@ -147,14 +159,10 @@ public class StandingsBusServiceTest {
 			.thenReturn(createStandingsDTO_Found());
 		when(standingAppService.getStandings(anyObject()))
 			.thenReturn(createMockStandings());
-		when(standingAppService.buildStandingsMap(anyObject(), anyObject()))
-			.thenReturn(createMockStandingsMap());
-		when(standingAppService.buildHeadToHeadMap(anyString(), anyObject(), anyObject()))
-			.thenReturn(createMockHeadToHeadMap());
-		when(standingAppService.calculateStrengthOfSchedule(anyString(), anyObject(), anyObject(), anyObject()))
-			.thenReturn(new StandingRecord(5, 10, 20, 40));
-		when(standingAppService.createStanding(anyObject()))
-			.thenReturn(createMockStanding_StatusCode(StatusCodeDAO.Found));
+		when(standingAppService.buildStrengthOfScheduleMap(anyObject(), anyObject()))
+			.thenReturn(createMockStrengthOfScheduleMap());
+		when(standingAppService.createStandings(anyObject()))
+			.thenReturn(createMockStandings_StatusCode(StatusCodeDAO.Found));
 		StandingsBusiness standings = standingsBusinessService.rankStandings("2014-10-28");
 		Assert.assertTrue(standings.isServerError());
 	}
@@ -167,14 +175,10 @@ public class StandingsBusServiceTest {
 			.thenReturn(createStandingsDTO_Found());
 		when(standingAppService.getStandings(anyObject()))
 			.thenReturn(createMockStandings());
-		when(standingAppService.buildStandingsMap(anyObject(), anyObject()))
-			.thenReturn(createMockStandingsMap());
-		when(standingAppService.buildHeadToHeadMap(anyString(), anyObject(), anyObject()))
-			.thenReturn(createMockHeadToHeadMap());
-		when(standingAppService.calculateStrengthOfSchedule(anyString(), anyObject(), anyObject(), anyObject()))
-			.thenReturn(new StandingRecord(5, 10, 20, 40));
-		when(standingAppService.createStanding(anyObject()))
-			.thenReturn(createMockStanding_StatusCode(StatusCodeDAO.Created));
+		when(standingAppService.buildStrengthOfScheduleMap(anyObject(), anyObject()))
+			.thenReturn(createMockStrengthOfScheduleMap());
+		when(standingAppService.createStandings(anyObject()))
+			.thenReturn(createMockStandings_StatusCode(StatusCodeDAO.Created));
 		StandingsBusiness standings = standingsBusinessService.rankStandings("2014-10-28");
 		Assert.assertTrue(standings.isCompleted());
 	}
@@ -219,21 +223,19 @@ public class StandingsBusServiceTest {
 		return team;
 	}
 
-	private Map<String, StandingRecord> createMockStandingsMap() {
-		Map<String, StandingRecord> standingsMap = new HashMap<>();
-		standingsMap.put("cleveland-cavaliers", new StandingRecord(5, 10, 0, 0));
-		return standingsMap;
-	}
-
-	private Map<String, StandingRecord> createMockHeadToHeadMap() {
-		Map<String, StandingRecord> standingsMap = new HashMap<>();
-		standingsMap.put("cleveland-cavaliers", new StandingRecord(5, 10, 0, 0));
-		return standingsMap;
+	private Map<String, StandingRecord> createMockStrengthOfScheduleMap() {
+		Map<String, StandingRecord> strengthOfScheduleMap = new HashMap<>();
+		strengthOfScheduleMap.put("cleveland-cavaliers", new StandingRecord(5, 10, 20, 40));
+		return strengthOfScheduleMap;
 	}
 
-	private Standing createMockStanding_StatusCode(StatusCodeDAO status) {
-		Standing standing = new Standing();
-		standing.setStatusCode(status);
-		return standing;
+	private List<Standing> createMockStandings_StatusCode(StatusCodeDAO status) {
+		List<Standing> standings = new ArrayList<>();
+		for (int i = 0; i < createMockStandings().size(); i++) {
+			Standing standing = new Standing();
+			standing.setStatusCode(status);
+			standings.add(standing);
+		}
+		return standings;
 	}
 }
\ No newline at end of file
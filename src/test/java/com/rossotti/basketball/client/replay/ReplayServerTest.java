@@ -0,0 +1,67 @@
+package com.rossotti.basketball.client.replay;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+public class ReplayServerTest {
+	private ReplayServer replayServer;
+
+	@Before
+	public void setUp() {
+		replayServer = new ReplayServer(getClass().getClassLoader().getResource("mockClient").getPath());
+	}
+
+	@After
+	public void tearDown() {
+		replayServer.stop();
+	}
+
+	@Test
+	public void replay_synthetic() throws IOException {
+		replayServer.setSynthetic(true);
+		replayServer.start();
+		HttpURLConnection connection = open("boxscore/20160311-houston-rockets-at-boston-celtics.json");
+		Assert.assertEquals(200, connection.getResponseCode());
+		try (InputStream inputStream = connection.getInputStream()) {
+			Assert.assertTrue(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8).contains("away_totals"));
+		}
+		Assert.assertEquals(1, replayServer.getCount(200));
+	}
+
+	@Test
+	public void replay_notFound() throws IOException {
+		replayServer.start();
+		Assert.assertEquals(404, open("boxscore/20160311-houston-rockets-at-boston-celtics.json").getResponseCode());
+	}
+
+	@Test
+	public void replay_throttled() throws IOException {
+		replayServer.setThrottleRate(1);
+		replayServer.setRetryAfterSeconds(5);
+		replayServer.start();
+		HttpURLConnection connection = open("roster/toronto-raptors.json");
+		Assert.assertEquals(429, connection.getResponseCode());
+		Assert.assertEquals("5", connection.getHeaderField("Retry-After"));
+	}
+
+	@Test
+	public void replay_serverError() throws IOException {
+		replayServer.setErrorRate(1);
+		replayServer.start();
+		Assert.assertEquals(503, open("standings/20141028.json").getResponseCode());
+		Assert.assertEquals(1, replayServer.getCount(503));
+	}
+
+	private HttpURLConnection open(String path) throws IOException {
+		return (HttpURLConnection)new URL(replayServer.getBaseUrl() + path).openConnection();
+	}
+}
@@ -0,0 +1,68 @@
+package com.rossotti.basketball.client.service;
+
+import com.rossotti.basketball.client.service.CircuitBreakerService.State;
+import com.rossotti.basketball.util.service.MetricService;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CircuitBreakerServiceTest {
+
+	@Test
+	public void recordFailure_Opens() {
+		CircuitBreakerService circuitBreakerService = new CircuitBreakerService(new MetricService(), 10, 4, 50, 60000);
+		circuitBreakerService.recordSuccess();
+		circuitBreakerService.recordSuccess();
+		circuitBreakerService.recordFailure();
+		Assert.assertEquals(State.Closed, circuitBreakerService.getState());
+		circuitBreakerService.recordFailure();
+		Assert.assertEquals(State.Open, circuitBreakerService.getState());
+		Assert.assertFalse(circuitBreakerService.allowRequest());
+	}
+
+	@Test
+	public void recordFailure_MinimumCalls() {
+		CircuitBreakerService circuitBreakerService = new CircuitBreakerService(new MetricService(), 10, 4, 50, 60000);
+		circuitBreakerService.recordFailure();
+		circuitBreakerService.recordFailure();
+		circuitBreakerService.recordFailure();
+		Assert.assertEquals(State.Closed, circuitBreakerService.getState());
+		Assert.assertTrue(circuitBreakerService.allowRequest());
+	}
+
+	@Test
+	public void recordSuccess_WindowSlides() {
+		CircuitBreakerService circuitBreakerService = new CircuitBreakerService(new MetricService(), 4, 4, 75, 60000);
+		circuitBreakerService.recordFailure();
+		circuitBreakerService.recordFailure();
+		circuitBreakerService.recordSuccess();
+		circuitBreakerService.recordSuccess();
+		circuitBreakerService.recordSuccess();
+		circuitBreakerService.recordFailure();
+		Assert.assertEquals(State.Closed, circuitBreakerService.getState());
+	}
+
+	@Test
+	public void halfOpen_TrialSuccessCloses() throws InterruptedException {
+		CircuitBreakerService circuitBreakerService = new CircuitBreakerService(new MetricService(), 2, 1, 50, 20);
+		circuitBreakerService.recordFailure();
+		Assert.assertFalse(circuitBreakerService.allowRequest());
+		Thread.sleep(50);
+		Assert.assertTrue(circuitBreakerService.allowRequest());
+		Assert.assertEquals(State.HalfOpen, circuitBreakerService.getState());
+		Assert.assertFalse(circuitBreakerService.allowRequest());
+		circuitBreakerService.recordSuccess();
+		Assert.assertEquals(State.Closed, circuitBreakerService.getState());
+		Assert.assertTrue(circuitBreakerService.allowRequest());
+	}
+
+	@Test
+	public void halfOpen_TrialFailureOpens() throws InterruptedException {
+		CircuitBreakerService circuitBreakerService = new CircuitBreakerService(new MetricService(), 2, 1, 50, 20);
+		circuitBreakerService.recordFailure();
+		Thread.sleep(50);
+		Assert.assertTrue(circuitBreakerService.allowRequest());
+		circuitBreakerService.recordFailure();
+		Assert.assertEquals(State.Open, circuitBreakerService.getState());
+		Assert.assertFalse(circuitBreakerService.allowRequest());
+	}
+}
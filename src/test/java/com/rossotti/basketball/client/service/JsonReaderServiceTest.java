@@ -0,0 +1,48 @@
+package com.rossotti.basketball.client.service;
+
+import com.rossotti.basketball.client.dto.GameDTO;
+import com.rossotti.basketball.client.dto.RosterDTO;
+import com.rossotti.basketball.client.dto.StandingsDTO;
+import com.rossotti.basketball.util.function.StreamConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public class JsonReaderServiceTest {
+
+	private final JsonReaderService jsonReaderService = new JsonReaderService(true);
+
+	@Test
+	public void read_Stream_Roster() throws IOException {
+		InputStream baseJson = this.getClass().getClassLoader().getResourceAsStream("mockClient/rosterClient.json");
+		RosterDTO roster = jsonReaderService.read(baseJson, RosterDTO.class);
+		Assert.assertEquals("detroit-pistons", roster.team.getTeam_id());
+		Assert.assertEquals("Eskişehir, Turkey", roster.players[8].getBirthplace());
+		baseJson.close();
+	}
+
+	@Test
+	public void read_Stream_Standings() throws IOException {
+		InputStream baseJson = this.getClass().getClassLoader().getResourceAsStream("mockClient/standingsClient.json");
+		StandingsDTO standings = jsonReaderService.read(baseJson, StandingsDTO.class);
+		Assert.assertEquals(30, standings.standing.length);
+		Assert.assertEquals("toronto-raptors", standings.standing[1].getTeam_id());
+		baseJson.close();
+	}
+
+	@Test
+	public void read_Bytes_Game() throws IOException {
+		byte[] baseJson = StreamConverter.getBytes(this.getClass().getClassLoader().getResourceAsStream("mockClient/gameClient.json"));
+		GameDTO game = jsonReaderService.read(baseJson, GameDTO.class);
+		Assert.assertEquals("Bojan Bogdanović", game.home_stats[0].getDisplay_name());
+		Assert.assertEquals("completed", game.event_information.getStatus());
+	}
+
+	@Test
+	public void read_Bytes_UnknownField() throws IOException {
+		GameDTO game = jsonReaderService.read("{\"unknown_field\":1}".getBytes(), GameDTO.class);
+		Assert.assertNotNull(game);
+	}
+}
@@ -0,0 +1,36 @@
+package com.rossotti.basketball.client.service;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class RateLimiterServiceTest {
+
+	@Test
+	public void reserve_Burst() {
+		RateLimiterService rateLimiterService = new RateLimiterService(6, 3);
+		Assert.assertEquals(0, rateLimiterService.reserve());
+		Assert.assertEquals(0, rateLimiterService.reserve());
+		Assert.assertEquals(0, rateLimiterService.reserve());
+		Assert.assertTrue(rateLimiterService.reserve() > TimeUnit.SECONDS.toNanos(9));
+	}
+
+	@Test
+	public void reserve_Queued() {
+		RateLimiterService rateLimiterService = new RateLimiterService(6, 1);
+		Assert.assertEquals(0, rateLimiterService.reserve());
+		long firstWait = rateLimiterService.reserve();
+		long secondWait = rateLimiterService.reserve();
+		Assert.assertTrue(firstWait > TimeUnit.SECONDS.toNanos(9) && firstWait <= TimeUnit.SECONDS.toNanos(10));
+		Assert.assertTrue(secondWait > TimeUnit.SECONDS.toNanos(19) && secondWait <= TimeUnit.SECONDS.toNanos(20));
+	}
+
+	@Test
+	public void acquire_Refilled() {
+		RateLimiterService rateLimiterService = new RateLimiterService(6000, 1);
+		Assert.assertEquals(0, rateLimiterService.acquire());
+		Assert.assertTrue(rateLimiterService.acquire() <= 10);
+		Assert.assertTrue(rateLimiterService.acquire() <= 10);
+	}
+}
@@ -0,0 +1,79 @@
+package com.rossotti.basketball.client.service;
+
+import com.rossotti.basketball.client.service.ResponseCacheService.CachedResponse;
+import com.rossotti.basketball.util.service.PropertyService;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResponseCacheServiceTest {
+	private static final String boxScoreUrl = "https://erikberg.com/nba/boxscore/20150415-utah-jazz-at-houston-rockets.json";
+	private static final String rosterUrl = "https://erikberg.com/nba/roster/toronto-raptors.json";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Mock
+	private PropertyService propertyService;
+
+	@InjectMocks
+	private ResponseCacheService responseCacheService;
+
+	@Before
+	public void setUp() {
+		when(propertyService.getProperty_String(eq("xmlstats.cacheDirectory"), anyString()))
+			.thenReturn(temporaryFolder.getRoot().getPath());
+		when(propertyService.getProperty_Int(eq("xmlstats.cache.ttl.boxscore"), anyInt()))
+			.thenReturn(-1);
+		when(propertyService.getProperty_Int(eq("xmlstats.cache.ttl.roster"), anyInt()))
+			.thenReturn(0);
+	}
+
+	@Test
+	public void get_NotCached() {
+		Assert.assertNull(responseCacheService.get(boxScoreUrl, "boxscore"));
+	}
+
+	@Test
+	public void get_Disabled() {
+		when(propertyService.getProperty_String(eq("xmlstats.cacheDirectory"), anyString()))
+			.thenReturn("");
+		responseCacheService.put(boxScoreUrl, "boxscore", new ResponseEntity<>("{}".getBytes(), HttpStatus.OK));
+		Assert.assertNull(responseCacheService.get(boxScoreUrl, "boxscore"));
+	}
+
+	@Test
+	public void put_BoxScore_Fresh() {
+		responseCacheService.put(boxScoreUrl, "boxscore", new ResponseEntity<>("{\"boxscore\":1}".getBytes(), HttpStatus.OK));
+		CachedResponse cachedResponse = responseCacheService.get(boxScoreUrl, "boxscore");
+		Assert.assertEquals("{\"boxscore\":1}", new String(cachedResponse.getBody()));
+		Assert.assertTrue(responseCacheService.isFresh(cachedResponse));
+	}
+
+	@Test
+	public void put_Roster_Revalidate() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag("\"abc123\"");
+		headers.set(HttpHeaders.LAST_MODIFIED, "Wed, 15 Apr 2015 10:00:00 GMT");
+		responseCacheService.put(rosterUrl, "roster", new ResponseEntity<>("{\"roster\":1}".getBytes(), headers, HttpStatus.OK));
+		CachedResponse cachedResponse = responseCacheService.get(rosterUrl, "roster");
+		Assert.assertEquals("\"abc123\"", cachedResponse.getETag());
+		Assert.assertEquals("Wed, 15 Apr 2015 10:00:00 GMT", cachedResponse.getLastModified());
+		Assert.assertFalse(responseCacheService.isFresh(cachedResponse));
+	}
+}
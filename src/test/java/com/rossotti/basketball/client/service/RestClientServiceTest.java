@@ -5,16 +5,36 @@ import com.rossotti.basketball.client.dto.RosterDTO;
 import com.rossotti.basketball.client.dto.StandingsDTO;
 import com.rossotti.basketball.client.dto.StatusCodeDTO.StatusCode;
 import com.rossotti.basketball.util.function.ThreadSleep;
+import com.rossotti.basketball.util.service.MetricService;
+import com.rossotti.basketball.util.service.PropertyService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
 import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @SuppressWarnings("SpringJavaAutowiredMembersInspection")
 @RunWith(SpringRunner.class)
@@ -27,6 +47,99 @@ public class RestClientServiceTest {
 	@Autowired
 	private RestClientService restClientService;
 
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private HttpServer httpServer;
+	private RestClientService cachingClientService;
+	private MetricService metricService;
+	private final List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+	private volatile String eTag = "\"1\"";
+	private volatile String body = "{\"version\":1}";
+
+	//serves body with eTag, a request carrying the current eTag gets a 304
+	@Before
+	public void setUp() throws IOException {
+		httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		httpServer.createContext("/nba/", exchange -> {
+			String requestETag = exchange.getRequestHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+			ifNoneMatch.add(String.valueOf(requestETag));
+			exchange.getResponseHeaders().set(HttpHeaders.ETAG, eTag);
+			if (eTag.equals(requestETag)) {
+				exchange.sendResponseHeaders(304, -1);
+			}
+			else {
+				byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+				exchange.sendResponseHeaders(200, bytes.length);
+				exchange.getResponseBody().write(bytes);
+			}
+			exchange.close();
+		});
+		httpServer.start();
+
+		MockEnvironment env = new MockEnvironment()
+			.withProperty("xmlstats.accessToken", "validAccessToken")
+			.withProperty("xmlstats.userAgent", "validUserAgent")
+			.withProperty("xmlstats.cacheDirectory", temporaryFolder.getRoot().getPath())
+			.withProperty("xmlstats.cache.ttl.roster", "3600")
+			.withProperty("xmlstats.cache.ttl.boxscore", "0")
+			.withProperty("xmlstats.retry.maxAttempts", "1");
+		PropertyService propertyService = new PropertyService(env);
+		RateLimiterService rateLimiterService = mock(RateLimiterService.class);
+		CircuitBreakerService circuitBreakerService = mock(CircuitBreakerService.class);
+		when(circuitBreakerService.allowRequest())
+			.thenReturn(true);
+		metricService = new MetricService();
+		cachingClientService = new RestClientService(propertyService, metricService, rateLimiterService, new ResponseCacheService(propertyService), circuitBreakerService);
+	}
+
+	@After
+	public void tearDown() {
+		cachingClientService.shutdown();
+		httpServer.stop(0);
+	}
+
+	@Test
+	public void getJson_cacheFresh() {
+		String rosterUrl = getUrl("roster/toronto-raptors.json");
+		Assert.assertEquals("{\"version\":1}", new String(cachingClientService.getJson(rosterUrl).getBody(), StandardCharsets.UTF_8));
+		ResponseEntity<byte[]> cached = cachingClientService.getJson(rosterUrl);
+		Assert.assertEquals(HttpStatus.OK, cached.getStatusCode());
+		Assert.assertEquals("{\"version\":1}", new String(cached.getBody(), StandardCharsets.UTF_8));
+		Assert.assertEquals(1, ifNoneMatch.size());
+		Assert.assertEquals(1, metricService.getCount("http.cache.hit.roster"));
+	}
+
+	@Test
+	public void getJson_cacheRevalidated() {
+		String boxScoreUrl = getUrl("boxscore/20150415-utah-jazz-at-houston-rockets.json");
+		cachingClientService.getJson(boxScoreUrl);
+		ResponseEntity<byte[]> revalidated = cachingClientService.getJson(boxScoreUrl);
+		Assert.assertEquals(HttpStatus.OK, revalidated.getStatusCode());
+		Assert.assertEquals("{\"version\":1}", new String(revalidated.getBody(), StandardCharsets.UTF_8));
+		Assert.assertEquals(Arrays.asList("null", "\"1\""), ifNoneMatch);
+		Assert.assertEquals(1, metricService.getCount("http.cache.revalidated.boxscore"));
+	}
+
+	@Test
+	public void getJson_cacheReplaced() {
+		String boxScoreUrl = getUrl("boxscore/20150415-utah-jazz-at-houston-rockets.json");
+		cachingClientService.getJson(boxScoreUrl);
+		eTag = "\"2\"";
+		body = "{\"version\":2}";
+		ResponseEntity<byte[]> replaced = cachingClientService.getJson(boxScoreUrl);
+		Assert.assertEquals("{\"version\":2}", new String(replaced.getBody(), StandardCharsets.UTF_8));
+		//the next request revalidates the new entry and serves its body
+		ResponseEntity<byte[]> revalidated = cachingClientService.getJson(boxScoreUrl);
+		Assert.assertEquals("{\"version\":2}", new String(revalidated.getBody(), StandardCharsets.UTF_8));
+		Assert.assertEquals(Arrays.asList("null", "\"1\"", "\"2\""), ifNoneMatch);
+		Assert.assertEquals(1, metricService.getCount("http.cache.revalidated.boxscore"));
+	}
+
+	private String getUrl(String path) {
+		return "http://127.0.0.1:" + httpServer.getAddress().getPort() + "/nba/" + path;
+	}
+
 	@Ignore
 	@Test
 	public void retrieveRoster_200() {
@@ -3,6 +3,7 @@ package com.rossotti.basketball.client.service;
 import com.rossotti.basketball.util.service.exception.FileException;
 import com.rossotti.basketball.util.service.exception.PropertyException;
 import com.rossotti.basketball.util.function.StreamConverter;
+import com.rossotti.basketball.util.service.ArchiveService;
 import com.rossotti.basketball.util.service.FileService;
 import com.rossotti.basketball.util.service.PropertyService;
 import com.rossotti.basketball.client.dto.*;
@@ -11,6 +12,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +34,12 @@ public class RestStatsServiceTest {
 	@Mock
 	private FileService fileService;
 
+	@Mock
+	private ArchiveService archiveService;
+
+	@Spy
+	private JsonReaderService jsonReaderService = new JsonReaderService(false);
+
 	@InjectMocks
 	private RestStatsService restStatsService;
 
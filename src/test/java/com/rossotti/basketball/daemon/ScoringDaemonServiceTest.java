@@ -0,0 +1,79 @@
+package com.rossotti.basketball.daemon;
+
+import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.integration.GatewayService;
+import com.rossotti.basketball.integration.ServiceProperties;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.service.CacheStatisticsService;
+import com.rossotti.basketball.util.service.MetricService;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("CanBeFinal")
+@RunWith(MockitoJUnitRunner.class)
+public class ScoringDaemonServiceTest {
+	@Mock
+	private GatewayService gatewayService;
+
+	@Mock
+	private GameAppService gameAppService;
+
+	@Mock
+	private MetricService metricService;
+
+	@Mock
+	private CacheStatisticsService cacheStatisticsService;
+
+	@Spy
+	private MockEnvironment env = new MockEnvironment();
+
+	@InjectMocks
+	private ScoringDaemonService scoringDaemonService;
+
+	@Test
+	public void pollGames_NoGamesDue() {
+		when(gameAppService.findScheduledByFromDateTimeAndToDateTime(anyObject(), anyObject()))
+			.thenReturn(new ArrayList<>());
+		scoringDaemonService.pollGames();
+		verify(gatewayService, never()).processGames(any(ServiceProperties.class));
+	}
+
+	@Test
+	public void pollGames_GamesDue() {
+		when(gameAppService.findScheduledByFromDateTimeAndToDateTime(anyObject(), anyObject()))
+			.thenReturn(Arrays.asList(LocalDateTime.of(2016, 10, 27, 19, 0), LocalDateTime.of(2016, 10, 27, 22, 30), LocalDateTime.of(2016, 10, 28, 19, 0)));
+		when(gatewayService.processGames(any(ServiceProperties.class)))
+			.thenReturn(new ArrayList<>());
+		scoringDaemonService.pollGames();
+		verify(gatewayService, times(2)).processGames(any(ServiceProperties.class));
+	}
+
+	@Test
+	public void scoreGames_Processed() {
+		List<Game> games = new ArrayList<>();
+		games.add(new Game());
+		when(gatewayService.processGames(any(ServiceProperties.class)))
+			.thenReturn(games);
+		List<Game> processedGames = scoringDaemonService.scoreGames("2016-10-27", "");
+		Assert.assertEquals(1, processedGames.size());
+		verify(metricService).logMetrics();
+	}
+}
@@ -11,6 +11,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RunWith(SpringRunner.class)
 @ContextConfiguration(classes={IntegrationConfig.class})
@@ -19,6 +20,9 @@ public class IntegrationFlowTest {
     @Autowired
     private GatewayService gatewayService;
 
+    @Autowired
+    private GameRangeService gameRangeService;
+
     @Test
     public void testFlow_GameNotFound() {
         ServiceProperties serviceProperties = new ServiceProperties();
@@ -71,4 +75,28 @@ public class IntegrationFlowTest {
         List<Game> games = gatewayService.processGames(serviceProperties);
         Assert.assertTrue(games.size() == 1);
     }
+
+    @Test
+    public void testFlow_DateRange_NoGames() {
+        ServiceProperties serviceProperties = new ServiceProperties();
+        serviceProperties.setFromDate("2016-11-01");
+        serviceProperties.setToDate("2016-11-03");
+        serviceProperties.setGameTeam("");
+        List<Game> games = gameRangeService.processGames(serviceProperties);
+        Assert.assertTrue(games.size() == 0);
+    }
+
+    @Test
+    public void testFlow_Async_Concurrent() {
+        ServiceProperties completedProperties = new ServiceProperties();
+        completedProperties.setGameDate("2015-10-27");
+        completedProperties.setGameTeam("chicago-zephyr's");
+        ServiceProperties notFoundProperties = new ServiceProperties();
+        notFoundProperties.setGameDate("2016-10-27");
+        notFoundProperties.setGameTeam("chicago-zephyr's");
+        CompletableFuture<List<Game>> completedGames = gatewayService.processGamesAsync(completedProperties);
+        CompletableFuture<List<Game>> notFoundGames = gatewayService.processGamesAsync(notFoundProperties);
+        Assert.assertTrue(completedGames.join().size() == 1);
+        Assert.assertTrue(notFoundGames.join().size() == 0);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.app.service.PlayerAppService;
+import com.rossotti.basketball.app.service.RosterPlayerAppService;
+import com.rossotti.basketball.business.model.GameBusiness;
+import com.rossotti.basketball.business.model.StatusCodeBusiness.StatusCode;
+import com.rossotti.basketball.business.service.RosterPlayerBusService;
+import com.rossotti.basketball.client.dto.RosterDTO;
+import com.rossotti.basketball.client.dto.RosterPlayerDTO;
+import com.rossotti.basketball.client.dto.StatusCodeDTO;
+import com.rossotti.basketball.client.service.FileStatsService;
+import com.rossotti.basketball.client.service.RestStatsService;
+import com.rossotti.basketball.config.IntegrationConfig;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.service.PropertyService;
+import com.rossotti.basketball.util.service.PropertyService.ClientSource;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.integration.channel.ExecutorChannel;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RosterPlayerLoaderActivatorTest {
+	@Mock
+	private PropertyService propertyService;
+
+	@Mock
+	private FileStatsService fileStatsService;
+
+	@Mock
+	private RestStatsService restStatsService;
+
+	@Mock
+	private RosterPlayerAppService rosterPlayerAppService;
+
+	@Mock
+	private PlayerAppService playerAppService;
+
+	private ThreadPoolTaskExecutor gameScoringExecutor;
+	private RosterPlayerLoaderActivator rosterPlayerLoaderActivator;
+
+	private final Map<String, AtomicInteger> teamLoads = new ConcurrentHashMap<>();
+	private final AtomicInteger loads = new AtomicInteger();
+	private final AtomicInteger maxTeamLoads = new AtomicInteger();
+	private final AtomicInteger maxLoads = new AtomicInteger();
+	private final List<Thread> scoringThreads = new CopyOnWriteArrayList<>();
+	private final List<GameBusiness> results = new CopyOnWriteArrayList<>();
+
+	@Before
+	public void setUp() {
+		MockEnvironment env = new MockEnvironment()
+			.withProperty("accumulator.scoring.poolSize", "2")
+			.withProperty("accumulator.scoring.queueCapacity", "1");
+		gameScoringExecutor = new IntegrationConfig(env).gameScoringExecutor();
+		gameScoringExecutor.initialize();
+		when(propertyService.getProperty_ClientSource(anyString()))
+			.thenReturn(ClientSource.File);
+		rosterPlayerLoaderActivator = new RosterPlayerLoaderActivator(new RosterPlayerBusService(rosterPlayerAppService, propertyService, fileStatsService, restStatsService, playerAppService));
+	}
+
+	@After
+	public void tearDown() {
+		gameScoringExecutor.shutdown();
+	}
+
+	@Test
+	public void loadRoster_dateScoredConcurrently() throws InterruptedException {
+		when(fileStatsService.retrieveRoster(anyString(), anyObject()))
+			.thenAnswer(invocation -> {
+				AtomicInteger teamLoad = teamLoads.computeIfAbsent((String)invocation.getArguments()[0], team -> new AtomicInteger());
+				maxTeamLoads.accumulateAndGet(teamLoad.incrementAndGet(), Math::max);
+				maxLoads.accumulateAndGet(loads.incrementAndGet(), Math::max);
+				Thread.sleep(50);
+				loads.decrementAndGet();
+				teamLoad.decrementAndGet();
+				return createMockRosterDTO_NotFound();
+			});
+		String[] teams = {"detroit-pistons", "chicago-zephyr's", "detroit-pistons", "chicago-zephyr's", "detroit-pistons", "chicago-zephyr's"};
+		CountDownLatch scored = new CountDownLatch(teams.length);
+		ExecutorChannel gameRouterChannel = createGameRouterChannel(scored);
+
+		for (String team : teams) {
+			gameRouterChannel.send(MessageBuilder.withPayload(createMockGameBusiness(team)).build());
+		}
+
+		Assert.assertTrue(scored.await(10, TimeUnit.SECONDS));
+		Assert.assertEquals(teams.length, results.size());
+		Assert.assertTrue(results.stream().allMatch(GameBusiness::isClientError));
+		//the same team is never rebuilt twice at once, different teams are
+		Assert.assertEquals(1, maxTeamLoads.get());
+		Assert.assertEquals(2, maxLoads.get());
+		//with both scorers busy and the queue full, the sending thread scores games itself
+		Assert.assertTrue(scoringThreads.contains(Thread.currentThread()));
+	}
+
+	@Test
+	public void loadRoster_sameTeamLoadedOnce() throws InterruptedException {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(fileStatsService.retrieveRoster(anyString(), anyObject()))
+			.thenAnswer(invocation -> {
+				loading.countDown();
+				release.await(10, TimeUnit.SECONDS);
+				return createMockRosterDTO_NotFound();
+			});
+		CountDownLatch scored = new CountDownLatch(2);
+		ExecutorChannel gameRouterChannel = createGameRouterChannel(scored);
+
+		gameRouterChannel.send(MessageBuilder.withPayload(createMockGameBusiness("detroit-pistons")).build());
+		Assert.assertTrue(loading.await(10, TimeUnit.SECONDS));
+		gameRouterChannel.send(MessageBuilder.withPayload(createMockGameBusiness("detroit-pistons")).build());
+		awaitJoin();
+		release.countDown();
+
+		Assert.assertTrue(scored.await(10, TimeUnit.SECONDS));
+		Assert.assertTrue(results.stream().allMatch(GameBusiness::isClientError));
+		verify(fileStatsService, times(1)).retrieveRoster(anyString(), anyObject());
+	}
+
+	private ExecutorChannel createGameRouterChannel(CountDownLatch scored) {
+		ExecutorChannel gameRouterChannel = new ExecutorChannel(gameScoringExecutor);
+		gameRouterChannel.subscribe(message -> {
+			scoringThreads.add(Thread.currentThread());
+			results.add(rosterPlayerLoaderActivator.loadRoster((GameBusiness)message.getPayload()));
+			scored.countDown();
+		});
+		return gameRouterChannel;
+	}
+
+	//a second scoring thread is parked on the first thread's roster load
+	private void awaitJoin() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while (System.currentTimeMillis() < deadline) {
+			for (Thread thread : scoringThreads) {
+				for (StackTraceElement element : thread.getStackTrace()) {
+					if (element.getClassName().equals(CompletableFuture.class.getName()) && element.getMethodName().equals("join")) {
+						return;
+					}
+				}
+			}
+			Thread.sleep(10);
+		}
+		Assert.fail("second roster load never waited on the first");
+	}
+
+	private GameBusiness createMockGameBusiness(String team) {
+		Game game = new Game();
+		game.setGameDateTime(LocalDateTime.of(2016, 10, 30, 20, 0));
+		GameBusiness gameBusiness = new GameBusiness(game, StatusCode.RosterUpdate);
+		gameBusiness.setRosterLastTeam(team);
+		return gameBusiness;
+	}
+
+	private RosterDTO createMockRosterDTO_NotFound() {
+		RosterDTO roster = new RosterDTO();
+		roster.setStatusCode(StatusCodeDTO.StatusCode.NotFound);
+		roster.players = new RosterPlayerDTO[0];
+		return roster;
+	}
+}
@@ -11,6 +11,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -29,6 +30,7 @@ public class GameRepositoryTest {
 	}
 
 	@Test
+	@Transactional
 	public void getById() {
 		Game game = gameRepository.findOne(5L);
 		Assert.assertEquals(Game.GameStatus.Postponed, game.getStatus());
@@ -42,6 +44,20 @@ public class GameRepositoryTest {
 	}
 
 	@Test
+	public void findScheduledByFromDateAndToDate_Found() {
+		List<LocalDateTime> gameDateTimes = gameRepository.findScheduledByFromDateAndToDate(DateTimeConverter.getLocalDateTimeMin(LocalDate.of(2016, 10, 27)), DateTimeConverter.getLocalDateTimeMax(LocalDate.of(2016, 10, 28)));
+		Assert.assertEquals(2, gameDateTimes.size());
+		Assert.assertEquals(LocalDateTime.of(2016, 10, 27, 21, 0), gameDateTimes.get(0));
+	}
+
+	@Test
+	public void findScheduledByFromDateAndToDate_NotFound() {
+		List<LocalDateTime> gameDateTimes = gameRepository.findScheduledByFromDateAndToDate(DateTimeConverter.getLocalDateTimeMin(LocalDate.of(2015, 11, 24)), DateTimeConverter.getLocalDateTimeMax(LocalDate.of(2015, 11, 24)));
+		Assert.assertEquals(0, gameDateTimes.size());
+	}
+
+	@Test
+	@Transactional
 	public void findByTeamKeyAndFromDateAndToDate_Found() {
 		Game game = gameRepository.findByTeamKeyAndFromDateAndToDate("chicago-zephyr's", DateTimeConverter.getLocalDateTimeMin(LocalDate.of(2015, 10, 27)), DateTimeConverter.getLocalDateTimeMax(LocalDate.of(2015, 10, 27)));
 		Assert.assertEquals(LocalDateTime.of(2015, 10, 27, 20, 0), game.getGameDateTime());
@@ -136,6 +152,7 @@ public class GameRepositoryTest {
 	}
 
 	@Test
+	@Transactional
 	public void create_Created() {
 		gameRepository.save(createMockGame(30L, LocalDateTime.of(2016, 10, 10, 21, 0), 21L, 1L, "chicago-zephyr's", 22L, 2L, "harlem-globetrotter's", Game.GameStatus.Scheduled));
 		Game findGame = gameRepository.findByTeamKeyAndFromDateAndToDate("chicago-zephyr's", DateTimeConverter.getLocalDateTimeMin(LocalDate.of(2016, 10, 10)), DateTimeConverter.getLocalDateTimeMax(LocalDate.of(2016, 10, 10)));
@@ -149,6 +166,7 @@ public class GameRepositoryTest {
 	}
 
 	@Test
+	@Transactional
 	public void update_Updated() {
 		gameRepository.save(updateMockGame(8L, LocalDateTime.of(2015, 10, 15, 10, 0), 15L, 6L, "cleveland-rebels", 16L, 5L, "baltimore-bullets", Game.GameStatus.Completed));
 		Game findGame = gameRepository.findByTeamKeyAndFromDateAndToDate("cleveland-rebels", DateTimeConverter.getLocalDateTimeMin(LocalDate.of(2015, 10, 15)), DateTimeConverter.getLocalDateTimeMax(LocalDate.of(2015, 10, 15)));
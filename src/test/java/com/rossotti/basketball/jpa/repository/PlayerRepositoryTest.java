@@ -9,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -26,6 +27,7 @@ public class PlayerRepositoryTest {
 	}
 
 	@Test
+	@Transactional
 	public void getById() {
 		Player player = playerRepository.findOne(1L);
 		Assert.assertEquals("Puzdrakiew'icz", player.getLastName());
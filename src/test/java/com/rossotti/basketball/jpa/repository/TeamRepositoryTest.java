@@ -11,6 +11,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -27,6 +28,7 @@ public class TeamRepositoryTest {
 	}
 
 	@Test
+	@Transactional
 	public void getById() {
 		Team team = teamRepository.findOne(1L);
 		Assert.assertEquals("Chicago Zephyr's", team.getFullName());
@@ -1,6 +1,7 @@
 package com.rossotti.basketball.jpa.service;
 
 import com.rossotti.basketball.jpa.model.*;
+import org.hibernate.Hibernate;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -8,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -26,6 +28,7 @@ public class GameJpaServiceTest {
 	}
 
 	@Test
+	@Transactional
 	public void getById() {
 		Game game = gameJpaService.getById(5L);
 		Assert.assertEquals(Game.GameStatus.Postponed, game.getStatus());
@@ -39,6 +42,7 @@ public class GameJpaServiceTest {
 	}
 
 	@Test
+	@Transactional
 	public void findByTeamKeyAndAsOfDate_Found() {
 		Game game = gameJpaService.findByTeamKeyAndAsOfDate("chicago-zephyr's", LocalDate.of(2015, 10, 27));
 		Assert.assertEquals(LocalDateTime.of(2015, 10, 27, 20, 0), game.getGameDateTime());
@@ -79,6 +83,19 @@ public class GameJpaServiceTest {
 		Assert.assertEquals(0, games.size());
 	}
 
+	@Test
+	public void findByAsOfDateSeason_Found() {
+		List<Game> games = gameJpaService.findByAsOfDateSeason(LocalDate.of(2015, 10, 28));
+		Assert.assertTrue(games.size() >= 2);
+		for (int i = 0; i < games.size(); i++) {
+			Assert.assertTrue(Hibernate.isInitialized(games.get(i).getBoxScores()));
+			Assert.assertTrue(games.get(i).isCompleted() || games.get(i).isScheduled());
+			if (i > 0) {
+				Assert.assertFalse(games.get(i).getGameDateTime().isBefore(games.get(i - 1).getGameDateTime()));
+			}
+		}
+	}
+
 	@Test
 	public void findByAsOfDate_Found() {
 		List<Game> games = gameJpaService.findByAsOfDate(LocalDate.of(2015, 10, 27));
@@ -97,6 +114,33 @@ public class GameJpaServiceTest {
 		Assert.assertEquals(0, games.size());
 	}
 
+	@Test
+	public void findByAsOfDate_BoxScoresFetched() {
+		List<Game> games = gameJpaService.findByAsOfDate(LocalDate.of(2015, 10, 27));
+		for (Game game : games) {
+			Assert.assertTrue(Hibernate.isInitialized(game.getBoxScores()));
+		}
+	}
+
+	@Test
+	public void findByAsOfDate_OfficialsFetched() {
+		List<Game> games = gameJpaService.findByAsOfDate(LocalDate.of(2015, 10, 27));
+		for (Game game : games) {
+			Assert.assertTrue(Hibernate.isInitialized(game.getGameOfficials()));
+			if (game.getId() == 1L) {
+				Assert.assertEquals(3, game.getGameOfficials().size());
+				Assert.assertEquals("QuestionableCall", game.getGameOfficials().get(2).getOfficial().getLastName());
+			}
+		}
+	}
+
+	@Test
+	public void findByTeamKeyAndAsOfDate_OfficialsFetched() {
+		Game game = gameJpaService.findByTeamKeyAndAsOfDate("chicago-zephyr's", LocalDate.of(2015, 10, 27));
+		Assert.assertTrue(Hibernate.isInitialized(game.getBoxScores()));
+		Assert.assertTrue(Hibernate.isInitialized(game.getGameOfficials()));
+	}
+
 	@Test
 	public void findCountByAsOfDate_NotFound() {
 		int count = gameJpaService.findCountByAsOfDate(LocalDate.of(2015, 10, 26));
@@ -148,10 +192,11 @@ public class GameJpaServiceTest {
 	}
 
 	@Test
+	@Transactional
 	public void update_Updated() {
 		Game updateGame = gameJpaService.update(updateMockGame(LocalDateTime.of(2015, 1, 7, 19, 0), 20L, "chicago-bulls", 21L, "utah-jazz", Game.GameStatus.Completed));
-		Game findGame = gameJpaService.findByTeamKeyAndAsOfDate("chicago-bulls", LocalDate.of(2015, 1, 7));
 		Assert.assertTrue(updateGame.isUpdated());
+		Game findGame = gameJpaService.findByTeamKeyAndAsOfDate("chicago-bulls", LocalDate.of(2015, 1, 7));
 		Assert.assertEquals(Game.GameStatus.Completed, findGame.getStatus());
 		Assert.assertEquals(3, findGame.getGameOfficials().size());
 		Assert.assertEquals("MissedCa'll", findGame.getGameOfficials().get(1).getOfficial().getLastName());
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -25,6 +26,7 @@ public class PlayerJpaServiceTest {
 	}
 
 	@Test
+	@Transactional
 	public void getById() {
 		Player player = playerJpaService.getById(1L);
 		Assert.assertEquals("Puzdrakiew'icz", player.getLastName());
@@ -0,0 +1,78 @@
+package com.rossotti.basketball.jpa.service;
+
+import com.rossotti.basketball.jpa.model.RunCheckpoint;
+import com.rossotti.basketball.jpa.model.RunCheckpoint.RunStatus;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDate;
+
+@SuppressWarnings("SpringJavaAutowiredMembersInspection")
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class RunCheckpointJpaServiceTest {
+
+	private RunCheckpointJpaService runCheckpointJpaService;
+
+	@Autowired
+	public void setRunCheckpointJpaService(RunCheckpointJpaService runCheckpointJpaService) {
+		this.runCheckpointJpaService = runCheckpointJpaService;
+	}
+
+	@Test
+	public void findByGameDate_NotFound() {
+		RunCheckpoint runCheckpoint = runCheckpointJpaService.findByGameDate(LocalDate.of(1999, 1, 1));
+		Assert.assertTrue(runCheckpoint.isNotFound());
+	}
+
+	@Test
+	public void create_Created() {
+		RunCheckpoint createCheckpoint = runCheckpointJpaService.create(createMockRunCheckpoint(LocalDate.of(2016, 2, 1), RunStatus.Started));
+		RunCheckpoint findCheckpoint = runCheckpointJpaService.findByGameDate(LocalDate.of(2016, 2, 1));
+		Assert.assertTrue(createCheckpoint.isCreated());
+		Assert.assertTrue(findCheckpoint.isStarted());
+	}
+
+	@Test
+	public void create_Existing() {
+		runCheckpointJpaService.create(createMockRunCheckpoint(LocalDate.of(2016, 2, 2), RunStatus.Started));
+		RunCheckpoint createCheckpoint = runCheckpointJpaService.create(createMockRunCheckpoint(LocalDate.of(2016, 2, 2), RunStatus.Started));
+		Assert.assertTrue(createCheckpoint.isFound());
+	}
+
+	@Test
+	public void update_Updated() {
+		runCheckpointJpaService.create(createMockRunCheckpoint(LocalDate.of(2016, 2, 3), RunStatus.Started));
+		RunCheckpoint updateCheckpoint = runCheckpointJpaService.update(createMockRunCheckpoint(LocalDate.of(2016, 2, 3), RunStatus.Completed));
+		RunCheckpoint findCheckpoint = runCheckpointJpaService.findByGameDate(LocalDate.of(2016, 2, 3));
+		Assert.assertTrue(updateCheckpoint.isUpdated());
+		Assert.assertTrue(findCheckpoint.isCompleted());
+	}
+
+	@Test
+	public void update_NotFound() {
+		RunCheckpoint updateCheckpoint = runCheckpointJpaService.update(createMockRunCheckpoint(LocalDate.of(1999, 2, 4), RunStatus.Completed));
+		Assert.assertTrue(updateCheckpoint.isNotFound());
+	}
+
+	@Test
+	public void delete_Deleted() {
+		RunCheckpoint createCheckpoint = runCheckpointJpaService.create(createMockRunCheckpoint(LocalDate.of(2016, 2, 5), RunStatus.Started));
+		RunCheckpoint deleteCheckpoint = runCheckpointJpaService.delete(createCheckpoint.getId());
+		RunCheckpoint findCheckpoint = runCheckpointJpaService.findByGameDate(LocalDate.of(2016, 2, 5));
+		Assert.assertTrue(deleteCheckpoint.isDeleted());
+		Assert.assertTrue(findCheckpoint.isNotFound());
+	}
+
+	private RunCheckpoint createMockRunCheckpoint(LocalDate gameDate, RunStatus status) {
+		RunCheckpoint runCheckpoint = new RunCheckpoint();
+		runCheckpoint.setGameDate(gameDate);
+		runCheckpoint.setStatus(status);
+		runCheckpoint.setGameCount((short)1);
+		return runCheckpoint;
+	}
+}
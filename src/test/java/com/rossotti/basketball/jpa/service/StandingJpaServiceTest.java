@@ -11,6 +11,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @SuppressWarnings("SpringJavaAutowiredMembersInspection")
@@ -96,6 +97,30 @@ public class StandingJpaServiceTest {
 		Assert.assertTrue(createStanding.isFound());
 	}
 
+	@Test
+	public void createAll_CreatedAndExisting() {
+		List<Standing> createStandings = new ArrayList<>();
+		createStandings.add(createMockStanding(21L, "utah-jazz", LocalDate.of(2012, 7, 2), "10th"));
+		createStandings.add(createMockStanding(1L, "chicago-zephyr's", LocalDate.of(2015, 10, 30), "10th"));
+		List<Standing> standings = standingJpaService.createAll(createStandings);
+		Standing findStanding = standingJpaService.findByTeamKeyAndAsOfDate("utah-jazz", LocalDate.of(2012, 7, 2));
+		Assert.assertTrue(standings.get(0).isCreated());
+		Assert.assertTrue(standings.get(1).isFound());
+		Assert.assertTrue(findStanding.isFound());
+	}
+
+	@Test
+	public void createAll_Created() {
+		List<Standing> createStandings = new ArrayList<>();
+		createStandings.add(createMockStanding(20L, "chicago-bulls", LocalDate.of(2012, 7, 3), "1st"));
+		createStandings.add(createMockStanding(21L, "utah-jazz", LocalDate.of(2012, 7, 3), "2nd"));
+		List<Standing> standings = standingJpaService.createAll(createStandings);
+		List<Standing> findStandings = standingJpaService.findByAsOfDate(LocalDate.of(2012, 7, 3));
+		Assert.assertTrue(standings.get(0).isCreated());
+		Assert.assertTrue(standings.get(1).isCreated());
+		Assert.assertEquals(2, findStandings.size());
+	}
+
 	@Test(expected=DataIntegrityViolationException.class)
 	public void create_MissingRequiredData() {
 		standingJpaService.create(createMockStanding(1L, "chicago-zephyr's", LocalDate.of(2016, 11, 1), null));
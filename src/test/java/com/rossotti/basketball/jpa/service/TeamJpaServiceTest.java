@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -27,6 +28,7 @@ public class TeamJpaServiceTest {
 	}
 
 	@Test
+	@Transactional
 	public void getById() {
 		Team team = teamJpaService.getById(1L);
 		Assert.assertEquals("Chicago Zephyr's", team.getFullName());
@@ -0,0 +1,108 @@
+package com.rossotti.basketball.jpa.service.impl;
+
+import com.rossotti.basketball.jpa.model.Team;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TemporalIndexTest {
+	private List<Team> teams = Arrays.asList(
+		createMockTeam("chicago-zephyr's", "Zephyr's", LocalDate.of(2011, 7, 1), LocalDate.of(2012, 6, 30)),
+		createMockTeam("chicago-zephyr's", "Zephyr's", LocalDate.of(2009, 7, 1), LocalDate.of(2010, 6, 30)),
+		createMockTeam("chicago-zephyr's", "Zephyr's", LocalDate.of(2010, 7, 1), LocalDate.of(2011, 6, 30)),
+		createMockTeam("salinas-cowboys", "Cowboys", LocalDate.of(2010, 7, 1), LocalDate.of(2011, 6, 30))
+	);
+	private int loads;
+	private TemporalIndex<Team> temporalIndex;
+
+	private List<Team> load() {
+		loads++;
+		return new ArrayList<>(teams);
+	}
+
+	private TemporalIndex<Team> createIndex() {
+		return new TemporalIndex<Team>(this::load, TemporalIndexTest::copy, Team::getFromDate, Team::getToDate, Team::getTeamKey, Team::getLastName);
+	}
+
+	@Test
+	public void find_intervalEdges() {
+		temporalIndex = createIndex();
+		Assert.assertEquals(LocalDate.of(2009, 7, 1), temporalIndex.find(0, "chicago-zephyr's", LocalDate.of(2009, 7, 1)).getFromDate());
+		Assert.assertEquals(LocalDate.of(2009, 7, 1), temporalIndex.find(0, "chicago-zephyr's", LocalDate.of(2010, 6, 30)).getFromDate());
+		Assert.assertEquals(LocalDate.of(2010, 7, 1), temporalIndex.find(0, "chicago-zephyr's", LocalDate.of(2010, 7, 1)).getFromDate());
+		Assert.assertEquals(LocalDate.of(2011, 7, 1), temporalIndex.find(0, "chicago-zephyr's", LocalDate.of(2012, 6, 30)).getFromDate());
+		Assert.assertNull(temporalIndex.find(0, "chicago-zephyr's", LocalDate.of(2009, 6, 30)));
+		Assert.assertNull(temporalIndex.find(0, "chicago-zephyr's", LocalDate.of(2012, 7, 1)));
+		Assert.assertNull(temporalIndex.find(0, "salinas-cowboys", LocalDate.of(2011, 7, 1)));
+		Assert.assertNull(temporalIndex.find(0, "harlem-globetrotter's", LocalDate.of(2010, 7, 1)));
+	}
+
+	@Test
+	public void find_secondKey() {
+		temporalIndex = createIndex();
+		Assert.assertEquals("salinas-cowboys", temporalIndex.find(1, "Cowboys", LocalDate.of(2011, 6, 30)).getTeamKey());
+	}
+
+	@Test
+	public void findAll_asOfDate() {
+		temporalIndex = createIndex();
+		Assert.assertEquals(2, temporalIndex.findAll(LocalDate.of(2010, 7, 1)).size());
+		Assert.assertEquals(1, temporalIndex.findAll(LocalDate.of(2011, 7, 1)).size());
+		Assert.assertEquals(1, loads);
+	}
+
+	@Test
+	public void find_returnsCopy() {
+		temporalIndex = createIndex();
+		Team team = temporalIndex.find(0, "salinas-cowboys", LocalDate.of(2010, 7, 1));
+		team.setLastName("Rodeo");
+		Assert.assertNotSame(team, temporalIndex.find(0, "salinas-cowboys", LocalDate.of(2010, 7, 1)));
+		Assert.assertEquals("Cowboys", temporalIndex.find(0, "salinas-cowboys", LocalDate.of(2010, 7, 1)).getLastName());
+		Assert.assertEquals("Cowboys", temporalIndex.findAll(LocalDate.of(2010, 7, 1)).get(1).getLastName());
+	}
+
+	@Test
+	public void invalidate_reloads() {
+		temporalIndex = createIndex();
+		Assert.assertNull(temporalIndex.find(0, "harlem-globetrotter's", LocalDate.of(2010, 7, 1)));
+		teams = new ArrayList<>(teams);
+		teams.add(createMockTeam("harlem-globetrotter's", "Globetrotter's", LocalDate.of(2009, 7, 1), LocalDate.of(2016, 6, 30)));
+		Assert.assertNull(temporalIndex.find(0, "harlem-globetrotter's", LocalDate.of(2010, 7, 1)));
+		temporalIndex.invalidate();
+		Assert.assertNotNull(temporalIndex.find(0, "harlem-globetrotter's", LocalDate.of(2010, 7, 1)));
+		Assert.assertEquals(2, loads);
+	}
+
+	@Test
+	public void invalidate_duringLoad() {
+		//the first load races a write, the caller gets the rows it loaded but the index keeps none of them
+		temporalIndex = new TemporalIndex<Team>(() -> {
+			List<Team> rows = load();
+			if (loads == 1) {
+				temporalIndex.invalidate();
+			}
+			return rows;
+		}, TemporalIndexTest::copy, Team::getFromDate, Team::getToDate, Team::getTeamKey, Team::getLastName);
+		Assert.assertNotNull(temporalIndex.find(0, "salinas-cowboys", LocalDate.of(2010, 7, 1)));
+		Assert.assertNotNull(temporalIndex.find(0, "salinas-cowboys", LocalDate.of(2010, 7, 1)));
+		Assert.assertNotNull(temporalIndex.find(0, "salinas-cowboys", LocalDate.of(2010, 7, 1)));
+		Assert.assertEquals(2, loads);
+	}
+
+	private static Team copy(Team team) {
+		return createMockTeam(team.getTeamKey(), team.getLastName(), team.getFromDate(), team.getToDate());
+	}
+
+	private static Team createMockTeam(String teamKey, String lastName, LocalDate fromDate, LocalDate toDate) {
+		Team team = new Team();
+		team.setTeamKey(teamKey);
+		team.setLastName(lastName);
+		team.setFromDate(fromDate);
+		team.setToDate(toDate);
+		return team;
+	}
+}
@@ -0,0 +1,82 @@
+package com.rossotti.basketball.util.service;
+
+import com.rossotti.basketball.util.function.StreamConverter;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+public class ArchiveServiceTest {
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final ArchiveService archiveService = new ArchiveService();
+
+	@After
+	public void tearDown() {
+		archiveService.close();
+	}
+
+	@Test
+	public void isArchive_False() {
+		Assert.assertFalse(archiveService.isArchive(temporaryFolder.getRoot().getPath()));
+		Assert.assertNull(archiveService.read(temporaryFolder.getRoot().getPath(), "20160311"));
+	}
+
+	@Test
+	public void append_Read() throws IOException {
+		String directory = temporaryFolder.getRoot().getPath();
+		archiveService.append(directory, "20160311", "{\"standing\":1}".getBytes());
+		archiveService.append(directory, "20160312", "{\"standing\":2}".getBytes());
+		Assert.assertTrue(archiveService.isArchive(directory));
+		Assert.assertTrue(archiveService.contains(directory, "20160312"));
+		Assert.assertFalse(archiveService.contains(directory, "20160313"));
+		try (InputStream json = archiveService.read(directory, "20160311")) {
+			Assert.assertEquals("{\"standing\":1}", new String(StreamConverter.getBytes(json)));
+		}
+	}
+
+	@Test
+	public void append_Superseded() throws IOException {
+		String directory = temporaryFolder.getRoot().getPath();
+		archiveService.append(directory, "20160311", "{\"standing\":1}".getBytes());
+		archiveService.append(directory, "20160311", "{\"standing\":3}".getBytes());
+		try (InputStream json = archiveService.read(directory, "20160311")) {
+			Assert.assertEquals("{\"standing\":3}", new String(StreamConverter.getBytes(json)));
+		}
+	}
+
+	@Test
+	public void convert_Reopened() throws IOException {
+		String directory = temporaryFolder.getRoot().getPath();
+		Files.write(temporaryFolder.newFile("toronto-raptors-20160311.json").toPath(), "{\"roster\":1}".getBytes());
+		Files.write(temporaryFolder.newFile("detroit-pistons-20160311.json").toPath(), "{\"roster\":2}".getBytes());
+		Assert.assertEquals(2, archiveService.convert(directory));
+		archiveService.close();
+
+		ArchiveService reopenedService = new ArchiveService();
+		try (InputStream json = reopenedService.read(directory, "detroit-pistons-20160311")) {
+			Assert.assertEquals("{\"roster\":2}", new String(StreamConverter.getBytes(json)));
+		}
+		finally {
+			reopenedService.close();
+		}
+	}
+
+	@Test
+	public void convert_Rerun() throws IOException {
+		String directory = temporaryFolder.getRoot().getPath();
+		Files.write(temporaryFolder.newFile("toronto-raptors-20160311.json").toPath(), "{\"roster\":1}".getBytes());
+		Assert.assertEquals(1, archiveService.convert(directory));
+		Files.write(temporaryFolder.newFile("detroit-pistons-20160311.json").toPath(), "{\"roster\":2}".getBytes());
+		Assert.assertEquals(1, archiveService.convert(directory));
+		Assert.assertEquals(0, archiveService.convert(directory));
+		//one index line per event, the rerun appended only the new file
+		Assert.assertEquals(2, Files.readAllLines(temporaryFolder.getRoot().toPath().resolve(ArchiveService.indexFileName)).size());
+	}
+}
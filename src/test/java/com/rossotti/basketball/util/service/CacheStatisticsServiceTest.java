@@ -0,0 +1,54 @@
+package com.rossotti.basketball.util.service;
+
+import com.rossotti.basketball.jpa.model.Team;
+import com.rossotti.basketball.jpa.service.TeamJpaService;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@SuppressWarnings("SpringJavaAutowiredMembersInspection")
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+	"db.url=jdbc:h2:mem:cache;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+	"hibernate.cache.use_second_level_cache=true",
+	"hibernate.cache.use_query_cache=true",
+	"hibernate.generate_statistics=true"
+})
+public class CacheStatisticsServiceTest {
+
+	private TeamJpaService teamJpaService;
+
+	private CacheStatisticsService cacheStatisticsService;
+
+	private MetricService metricService;
+
+	@Autowired
+	public void setTeamJpaService(TeamJpaService teamJpaService) {
+		this.teamJpaService = teamJpaService;
+	}
+
+	@Autowired
+	public void setCacheStatisticsService(CacheStatisticsService cacheStatisticsService) {
+		this.cacheStatisticsService = cacheStatisticsService;
+	}
+
+	@Autowired
+	public void setMetricService(MetricService metricService) {
+		this.metricService = metricService;
+	}
+
+	@Test
+	public void publish_CacheOn() {
+		Team team = teamJpaService.getById(4L);
+		Team cachedTeam = teamJpaService.getById(4L);
+		teamJpaService.findByTeamKey("salinas-cowboys");
+		teamJpaService.findByTeamKey("salinas-cowboys");
+		cacheStatisticsService.publish();
+		Assert.assertEquals(team.getTeamKey(), cachedTeam.getTeamKey());
+		Assert.assertTrue(metricService.getMax("cache.team.hit") >= 1);
+		Assert.assertTrue(metricService.getMax("cache.query.hit") >= 1);
+	}
+}
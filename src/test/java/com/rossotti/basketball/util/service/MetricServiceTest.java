@@ -0,0 +1,48 @@
+package com.rossotti.basketball.util.service;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MetricServiceTest {
+	private final MetricService metricService = new MetricService();
+
+	@Test
+	public void increment() {
+		metricService.increment("route.gameRouter.rosterLoadChannel");
+		metricService.increment("route.gameRouter.rosterLoadChannel");
+		Assert.assertEquals(2, metricService.getCount("route.gameRouter.rosterLoadChannel"));
+		Assert.assertEquals(0, metricService.getCount("route.gameRouter.gameScoreChannel"));
+	}
+
+	@Test
+	public void route() {
+		Assert.assertEquals("rosterLoadChannel", metricService.route("gameRouter", "rosterLoadChannel"));
+		Assert.assertEquals(1, metricService.getCount("route.gameRouter.rosterLoadChannel"));
+	}
+
+	@Test
+	public void recordTime() {
+		metricService.recordTime("handle.gameScoreChannel", 2000000L);
+		metricService.recordTime("handle.gameScoreChannel", 6000000L);
+		MetricService.Timer timer = metricService.getTimer("handle.gameScoreChannel");
+		Assert.assertEquals(2, timer.getCount());
+		Assert.assertEquals(8, timer.getTotalMillis());
+		Assert.assertEquals(4, timer.getMeanMillis());
+		Assert.assertEquals(6, timer.getMaxMillis());
+	}
+
+	@Test
+	public void recordMax() {
+		metricService.recordMax("queueDepth.gameRouterChannel", 5);
+		metricService.recordMax("queueDepth.gameRouterChannel", 3);
+		Assert.assertEquals(5, metricService.getMax("queueDepth.gameRouterChannel"));
+	}
+
+	@Test
+	public void reset() {
+		metricService.increment("send.gameScoreChannel");
+		metricService.reset();
+		Assert.assertEquals(0, metricService.getCount("send.gameScoreChannel"));
+		Assert.assertNull(metricService.getTimer("handle.gameScoreChannel"));
+	}
+}
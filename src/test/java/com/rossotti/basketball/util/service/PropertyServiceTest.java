@@ -7,6 +7,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.context.junit4.SpringRunner;
 
 @SuppressWarnings("SpringJavaAutowiredMembersInspection")
@@ -40,6 +41,37 @@ public class PropertyServiceTest {
 		propertyService.getProperty_Http("accumulator.http.invalid");
 	}
 	@Test(expected=PropertyException.class)
+	public void getProperty_Http_Loopback() {
+		propertyService.getProperty_Http("accumulator.http.loopback");
+	}
+	@Test
+	public void getProperty_Http_Loopback_Replay() {
+		MockEnvironment env = new MockEnvironment()
+			.withProperty("accumulator.http.loopback", "http://127.0.0.1:8089/nba/boxscore/")
+			.withProperty("accumulator.replay", "true");
+		String prop = new PropertyService(env).getProperty_Http("accumulator.http.loopback");
+		Assert.assertEquals("http://127.0.0.1:8089/nba/boxscore/", prop);
+	}
+	@Test
+	public void getProperty_Http_Loopback_ReplayProfile() {
+		MockEnvironment env = new MockEnvironment()
+			.withProperty("accumulator.http.loopback", "http://localhost:8089/nba/boxscore/");
+		env.setActiveProfiles("replay");
+		String prop = new PropertyService(env).getProperty_Http("accumulator.http.loopback");
+		Assert.assertEquals("http://localhost:8089/nba/boxscore/", prop);
+	}
+	@Test(expected=PropertyException.class)
+	public void getProperty_Http_Plain_Replay() {
+		MockEnvironment env = new MockEnvironment()
+			.withProperty("accumulator.http.plain", "http://erikberg.com/nba/boxscore/")
+			.withProperty("accumulator.replay", "true");
+		new PropertyService(env).getProperty_Http("accumulator.http.plain");
+	}
+	@Test(expected=PropertyException.class)
+	public void getProperty_Http_Plain() {
+		propertyService.getProperty_Http("accumulator.http.plain");
+	}
+	@Test(expected=PropertyException.class)
 	public void getProperty_Http_Empty() {
 		propertyService.getProperty_Http("accumulator.http.empty");
 	}
@@ -102,4 +134,28 @@ public class PropertyServiceTest {
 	public void getProperty_Int_NumberFormatException() {
 		propertyService.getProperty_Int("accumulator.int.invalid");
 	}
-}
\ No newline at end of file
+	@Test
+	public void getProperty_Int_Default_Valid() {
+		int prop = propertyService.getProperty_Int("accumulator.int.valid", 5);
+		Assert.assertEquals(0, prop);
+	}
+	@Test
+	public void getProperty_Int_Default_Empty() {
+		int prop = propertyService.getProperty_Int("accumulator.int.empty", 5);
+		Assert.assertEquals(5, prop);
+	}
+	@Test(expected=PropertyException.class)
+	public void getProperty_Int_Default_NumberFormatException() {
+		propertyService.getProperty_Int("accumulator.int.invalid", 5);
+	}
+	@Test
+	public void getProperty_String_Default_Valid() {
+		String prop = propertyService.getProperty_String("accumulator.string.valid", "defaultString");
+		Assert.assertEquals("validString", prop);
+	}
+	@Test
+	public void getProperty_String_Default_Empty() {
+		String prop = propertyService.getProperty_String("accumulator.string.empty", "defaultString");
+		Assert.assertEquals("defaultString", prop);
+	}
+}
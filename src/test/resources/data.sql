@@ -159,3 +159,14 @@ VALUES(5, 5, '2015-10-31', 17, '17th', 1, 0, 1, 'win', 1, 0, 114, 98, 1, 0, 0, 0
 insert into standing (id, teamId, standingDate, rank, ordinalRank, gamesWon, gamesLost, streak, streakType, streakTotal, gamesBack, pointsFor, pointsAgainst, homeWins, homeLosses,
 awayWins, awayLosses, conferenceWins, conferenceLosses, lastFive, lastTen, gamesPlayed, pointsScoredPerGame, PointsAllowedPerGame, WinPercentage, PointDifferential, pointDifferentialPerGame)
 VALUES(6, 6, '2015-10-31', 17, '17th', 1, 0, 1, 'win', 1, 0, 114, 98, 1, 0, 0, 0, 0, 0, '1-0', '1-0', 1, 114, 98, 1.00, 16, 16);
+
+insert into hibernate_sequences (sequence_name, next_val) VALUES('team', 1000);
+insert into hibernate_sequences (sequence_name, next_val) VALUES('player', 1000);
+insert into hibernate_sequences (sequence_name, next_val) VALUES('rosterPlayer', 1000);
+insert into hibernate_sequences (sequence_name, next_val) VALUES('official', 1000);
+insert into hibernate_sequences (sequence_name, next_val) VALUES('game', 1000);
+insert into hibernate_sequences (sequence_name, next_val) VALUES('gameOfficial', 1000);
+insert into hibernate_sequences (sequence_name, next_val) VALUES('boxScore', 1000);
+insert into hibernate_sequences (sequence_name, next_val) VALUES('boxScorePlayer', 1000);
+insert into hibernate_sequences (sequence_name, next_val) VALUES('standing', 1000);
+insert into hibernate_sequences (sequence_name, next_val) VALUES('runCheckpoint', 1000);